@@ -0,0 +1,42 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.annotations.base.AnnotationParser;
+import dev.velix.imperat.benchmarks.commands.FlatCommand;
+import dev.velix.imperat.benchmarks.commands.NestedCommand;
+import dev.velix.imperat.benchmarks.commands.PunishCommand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing annotated command classes with {@link AnnotationParser},
+ * including registering the resulting commands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnnotationParseBenchmark {
+
+    private AnnotationParser<BenchmarkSource> parser;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        parser = AnnotationParser.defaultParser(new BenchmarkImperat());
+    }
+
+    @Benchmark
+    public void flat() {
+        parser.parseCommandClass(new FlatCommand());
+    }
+
+    @Benchmark
+    public void nested() {
+        parser.parseCommandClass(new NestedCommand());
+    }
+
+    @Benchmark
+    public void flagsAndGreedy() {
+        parser.parseCommandClass(new PunishCommand());
+    }
+
+}
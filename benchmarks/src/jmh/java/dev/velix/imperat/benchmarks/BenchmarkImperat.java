@@ -0,0 +1,41 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.command.BaseImperat;
+import dev.velix.imperat.util.ImperatDebugger;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class BenchmarkImperat extends BaseImperat<BenchmarkSource> {
+
+    static {
+        //the debugger logs every dispatch, keep it from flooding the benchmark output
+        Logger logger = Logger.getLogger("IMPERAT-BENCHMARKS");
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.OFF);
+        ImperatDebugger.setLogger(logger);
+    }
+
+    public BenchmarkImperat() {
+        super((source, permission) -> true);
+    }
+
+    @Override
+    public String commandPrefix() {
+        return "/";
+    }
+
+    @Override
+    public BenchmarkSource wrapSender(Object sender) {
+        return (BenchmarkSource) sender;
+    }
+
+    @Override
+    public Object getPlatform() {
+        return null;
+    }
+
+    @Override
+    public void shutdownPlatform() {
+    }
+}
@@ -0,0 +1,32 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.context.Source;
+
+/**
+ * A source that swallows every message, so that benchmarks
+ * only measure the framework and not the console.
+ */
+public record BenchmarkSource(String name) implements Source {
+
+    @Override
+    public Object origin() {
+        return this;
+    }
+
+    @Override
+    public void reply(String message) {
+    }
+
+    @Override
+    public void warn(String message) {
+    }
+
+    @Override
+    public void error(String message) {
+    }
+
+    @Override
+    public boolean isConsole() {
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.benchmarks.commands.FlatCommand;
+import dev.velix.imperat.benchmarks.commands.NestedCommand;
+import dev.velix.imperat.benchmarks.commands.PunishCommand;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code BaseImperat#dispatch} from the raw command line
+ * to the execution of the matched usage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DispatchBenchmark {
+
+    private final BenchmarkSource source = new BenchmarkSource("benchmark");
+    private BenchmarkImperat imperat;
+
+    @Setup
+    public void setup() {
+        imperat = new BenchmarkImperat();
+        imperat.registerCommand(new FlatCommand());
+        imperat.registerCommand(new NestedCommand());
+        imperat.registerCommand(new PunishCommand());
+    }
+
+    @Benchmark
+    public CommandDispatch.Result flat() {
+        return imperat.dispatch(source, "flat mqzen 64");
+    }
+
+    @Benchmark
+    public CommandDispatch.Result nested() {
+        return imperat.dispatch(source, "nested first a second b third c");
+    }
+
+    @Benchmark
+    public CommandDispatch.Result flagsAndGreedy() {
+        return imperat.dispatch(source, "punish mqzen -s 1d Breaking the server laws again");
+    }
+
+    @Benchmark
+    public CommandDispatch.Result unknownSyntax() {
+        return imperat.dispatch(source, "flat mqzen notANumber");
+    }
+
+}
@@ -0,0 +1,39 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.placeholders.Placeholder;
+import dev.velix.imperat.placeholders.PlaceholderRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code PlaceholderRegistry#resolvedString} with and without placeholders in the input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PlaceholderBenchmark {
+
+    private PlaceholderRegistry<BenchmarkSource> registry;
+
+    @Setup
+    public void setup() {
+        registry = PlaceholderRegistry.createDefault(new BenchmarkImperat());
+        for (String id : new String[]{"%description%", "%permission%", "%player%", "%world%", "%server%"}) {
+            registry.setData(id, Placeholder.<BenchmarkSource>builder(id)
+                .resolver((placeholderId, imperat) -> placeholderId.substring(1, placeholderId.length() - 1))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public String withPlaceholders() {
+        return registry.resolvedString("%player% in %world% on %server%: %description%");
+    }
+
+    @Benchmark
+    public String withoutPlaceholders() {
+        return registry.resolvedString("A plain description without any placeholder in it");
+    }
+
+}
@@ -0,0 +1,64 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.benchmarks.commands.NestedCommand;
+import dev.velix.imperat.benchmarks.commands.PunishCommand;
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.suggestions.CompletionArg;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.SuggestionContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code CommandTree#tabComplete} at different depths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TabCompleteBenchmark {
+
+    private final BenchmarkSource source = new BenchmarkSource("benchmark");
+    private BenchmarkImperat imperat;
+
+    private Command<BenchmarkSource> nested;
+    private SuggestionContext<BenchmarkSource> firstLevel, deepLevel, flagLevel;
+
+    @Setup
+    public void setup() {
+        imperat = new BenchmarkImperat();
+        imperat.registerCommand(new NestedCommand());
+        imperat.registerCommand(new PunishCommand());
+
+        nested = imperat.getCommand("nested");
+        firstLevel = context(nested, "");
+        deepLevel = context(nested, "first a second b ");
+        flagLevel = context(imperat.getCommand("punish"), "mqzen ");
+    }
+
+    private SuggestionContext<BenchmarkSource> context(Command<BenchmarkSource> command, String line) {
+        ArgumentQueue queue = ArgumentQueue.parseAutoCompletion(line, line.endsWith(" "));
+        if (queue.isEmpty()) {
+            queue.add(" ");
+        }
+        CompletionArg arg = new CompletionArg(queue.getLast().trim(), queue.size() - 1);
+        return imperat.getContextFactory().createSuggestionContext(source, command, queue, arg);
+    }
+
+    @Benchmark
+    public Collection<String> firstLevel() {
+        return nested.tree().tabComplete(imperat, firstLevel).join();
+    }
+
+    @Benchmark
+    public Collection<String> deepLevel() {
+        return nested.tree().tabComplete(imperat, deepLevel).join();
+    }
+
+    @Benchmark
+    public Collection<String> flagLevel() {
+        return flagLevel.command().tree().tabComplete(imperat, flagLevel).join();
+    }
+
+}
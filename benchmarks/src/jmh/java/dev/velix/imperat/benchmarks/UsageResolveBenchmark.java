@@ -0,0 +1,78 @@
+package dev.velix.imperat.benchmarks;
+
+import dev.velix.imperat.benchmarks.commands.PunishCommand;
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.ResolvedContext;
+import dev.velix.imperat.exception.ImperatException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code SmartUsageResolve} alone, on a new context per invocation.
+ * The usage is matched once while setting up every input, a new context is then only
+ * matched against the tree (outside of the measurement) when {@link #matched} is set,
+ * so that the arguments parsed while matching are either reused, as in a dispatch, or parsed again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UsageResolveBenchmark {
+
+    @Param({
+        "mqzen",
+        "mqzen -s",
+        "mqzen -s 1d",
+        "mqzen -s 1d Breaking the server laws again"
+    })
+    public String input;
+
+    @Param({"true", "false"})
+    public boolean matched;
+
+    private BenchmarkImperat imperat;
+    private BenchmarkSource source;
+    private Command<BenchmarkSource> command;
+    private Context<BenchmarkSource> context;
+    private CommandUsage<BenchmarkSource> usage;
+
+    @Setup
+    public void setup() {
+        imperat = new BenchmarkImperat();
+        imperat.registerCommand(new PunishCommand());
+
+        command = imperat.getCommand("punish");
+        if (command == null) {
+            throw new IllegalStateException("Command 'punish' was not registered");
+        }
+        source = new BenchmarkSource("benchmark");
+        Context<BenchmarkSource> matching = imperat.getContextFactory()
+            .createContext(source, command, ArgumentQueue.parse(input));
+        usage = command.contextMatch(matching).toUsage(command);
+        if (usage == null) {
+            throw new IllegalStateException("No usage matches '" + input + "'");
+        }
+    }
+
+    //a resolved context fills its context's parsed arguments, so it's never reused
+    @Setup(Level.Invocation)
+    public void newContext() {
+        context = imperat.getContextFactory()
+            .createContext(source, command, ArgumentQueue.parse(input));
+        if (matched) {
+            command.contextMatch(context);
+        }
+    }
+
+    @Benchmark
+    public ResolvedContext<BenchmarkSource> resolve() throws ImperatException {
+        ResolvedContext<BenchmarkSource> resolved = imperat.getContextFactory()
+            .createResolvedContext(context, usage);
+        resolved.resolve();
+        return resolved;
+    }
+
+}
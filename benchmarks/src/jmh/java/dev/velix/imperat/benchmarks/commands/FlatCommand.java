@@ -0,0 +1,21 @@
+package dev.velix.imperat.benchmarks.commands;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.Usage;
+import dev.velix.imperat.benchmarks.BenchmarkSource;
+
+@Command("flat")
+public final class FlatCommand {
+
+    @Usage
+    public void defaultUsage(BenchmarkSource source) {
+        source.reply("/flat <player> <amount>");
+    }
+
+    @Usage
+    public void give(BenchmarkSource source, @Named("player") String player, @Named("amount") Integer amount) {
+        source.reply("Giving " + amount + " to " + player);
+    }
+
+}
@@ -0,0 +1,62 @@
+package dev.velix.imperat.benchmarks.commands;
+
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.SubCommand;
+import dev.velix.imperat.annotations.Usage;
+import dev.velix.imperat.benchmarks.BenchmarkSource;
+
+@Command("nested")
+public final class NestedCommand {
+
+    @Usage
+    public void defaultUsage(BenchmarkSource source) {
+        source.reply("default nested");
+    }
+
+    @SubCommand("first")
+    public static class First {
+
+        @Usage
+        public void defaultUsage(BenchmarkSource source) {
+            source.reply("default first");
+        }
+
+        @Usage
+        public void firstMain(BenchmarkSource source, @Named("a") String a) {
+            source.reply("first a=" + a);
+        }
+
+        @SubCommand("second")
+        public static class Second {
+
+            @Usage
+            public void defaultUsage(BenchmarkSource source) {
+                source.reply("default second");
+            }
+
+            @Usage
+            public void secondMain(BenchmarkSource source, @Named("b") String b) {
+                source.reply("second b=" + b);
+            }
+
+            @SubCommand("third")
+            public static class Third {
+
+                @Usage
+                public void defaultUsage(BenchmarkSource source) {
+                    source.reply("default third");
+                }
+
+                @Usage
+                public void thirdMain(BenchmarkSource source, @Named("c") String c) {
+                    source.reply("third c=" + c);
+                }
+
+            }
+
+        }
+
+    }
+
+}
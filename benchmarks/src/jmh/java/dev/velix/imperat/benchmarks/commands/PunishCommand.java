@@ -0,0 +1,26 @@
+package dev.velix.imperat.benchmarks.commands;
+
+import dev.velix.imperat.annotations.*;
+import dev.velix.imperat.benchmarks.BenchmarkSource;
+import org.jetbrains.annotations.Nullable;
+
+@Command("punish")
+public final class PunishCommand {
+
+    @Usage
+    public void showUsage(BenchmarkSource source) {
+        source.reply("/punish <player> [-silent] [duration] [reason...]");
+    }
+
+    @Usage
+    public void punish(
+        BenchmarkSource source,
+        @Named("player") String player,
+        @Switch({"silent", "s"}) boolean silent,
+        @Named("duration") @Optional @Nullable String duration,
+        @Named("reason") @Optional @Default("Breaking server laws") @Greedy String reason
+    ) {
+        source.reply((silent ? "[silent] " : "") + player + " " + duration + " " + reason);
+    }
+
+}
@@ -14,6 +14,7 @@ import dev.velix.imperat.command.Description;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.FlagParameter;
 import dev.velix.imperat.command.suggestions.CompletionArg;
+import dev.velix.imperat.command.suggestions.PrefixIndex;
 import dev.velix.imperat.command.tree.CommandNode;
 import dev.velix.imperat.command.tree.ParameterNode;
 import dev.velix.imperat.context.ArgumentQueue;
@@ -119,8 +120,8 @@ public abstract non-sealed class BaseBrigadierManager<S extends Source> implemen
 
             //ImperatDebugger.debug("input= '%s', last-space='%s'", input, hadExtraSpace);
 
-            String[] processed = processedInput(input);
-            //ImperatDebugger.debug("processed array= '%s'", Arrays.toString(processed));
+            String processed = processedInput(input);
+            //ImperatDebugger.debug("processed input= '%s'", processed);
 
             ArgumentQueue args = ArgumentQueue.parseAutoCompletion(processed, hadExtraSpace);
             //ImperatDebugger.debug("Parsed queue= '%s'",args.join(":"));
@@ -129,13 +130,17 @@ public abstract non-sealed class BaseBrigadierManager<S extends Source> implemen
             CompletionArg arg = new CompletionArg(args.getLast(), args.size() - 1);
             SuggestionContext<S> ctx = dispatcher.getContextFactory().createSuggestionContext(source, command, args, arg);
 
-            return dispatcher.getParameterSuggestionResolver(parameter).asyncAutoComplete(ctx, parameter)
+            return dispatcher.getParameterSuggestionResolver(parameter).asyncAutoComplete(ctx, parameter, dispatcher.getSuggestionExecutor())
                 .thenCompose((results) -> {
+                    if (results instanceof PrefixIndex index) {
+                        results = index.startingWith(arg.isEmpty() ? "" : arg.value());
+                    }
                     results
                         .stream()
                         .filter(c -> arg.isEmpty() || c.toLowerCase().startsWith(arg.value().toLowerCase()))
                         .distinct()
                         .sorted(String.CASE_INSENSITIVE_ORDER)
+                        .limit(dispatcher.getSuggestionLimit())
                         .forEach((res) -> builder.suggest(res, tooltip));
                     return builder.buildFuture();
                 });
@@ -151,16 +156,9 @@ public abstract non-sealed class BaseBrigadierManager<S extends Source> implemen
         });
     }
 
-    private String[] processedInput(final String input) {
-        String result = input;
-        if (result.charAt(0) == '/')
-            result = result.substring(1);
-
-        String[] split = result.split(" ");
-        String[] argumentsOnly = new String[split.length - 1];
-        System.arraycopy(split, 1, argumentsOnly, 0, split.length - 1);
-
-        return argumentsOnly;
+    private String processedInput(final String input) {
+        int space = input.indexOf(' ');
+        return space == -1 ? "" : input.substring(space + 1);
     }
 
     //resolvers methods
@@ -25,12 +25,19 @@ import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class BukkitImperat extends BaseImperat<BukkitSource> {
 
@@ -39,6 +46,13 @@ public final class BukkitImperat extends BaseImperat<BukkitSource> {
     private final AdventureProvider<CommandSender> adventureProvider;
     private Map<String, org.bukkit.command.Command> bukkitOGMapping;
     private BukkitBrigadierManager brigadierManager;
+    //the bukkit commands wrapping the registered commands, to unregister them from the command map
+    private final Map<Command<BukkitSource>, WrappedBukkitCommand> platformCommands = new ConcurrentHashMap<>();
+
+    //the commands of the batch being registered, registered into brigadier together once it's done
+    private final List<PendingBrigadierCommand> pendingBrigadier = new ArrayList<>();
+    //whether resending the commands to the players is already scheduled for the next tick
+    private final AtomicBoolean syncScheduled = new AtomicBoolean(false);
 
     @SuppressWarnings("unchecked")
     private BukkitImperat(Plugin plugin, AdventureProvider<CommandSender> adventureProvider, @NotNull PermissionResolver<BukkitSource> permissionResolver) {
@@ -56,6 +70,10 @@ public final class BukkitImperat extends BaseImperat<BukkitSource> {
         this.adventureProvider = loadAdventure(adventureProvider);
         registerSourceResolvers();
         registerValueResolvers();
+        //listeners can only be registered by enabled plugins, others have to call shutdown() from their onDisable
+        if (plugin.isEnabled()) {
+            Bukkit.getPluginManager().registerEvents(new ShutdownListener(), plugin);
+        }
     }
 
     private void registerSourceResolvers() {
@@ -164,21 +182,85 @@ public final class BukkitImperat extends BaseImperat<BukkitSource> {
     }
 
     /**
-     * Registering a command into the dispatcher
+     * Registering a command into the bukkit command map,
+     * and queuing it to be registered into brigadier if it's applied
      *
      * @param command the command to register
      */
     @Override
-    public void registerCommand(Command<BukkitSource> command) {
-        super.registerCommand(command);
+    protected void registerOnPlatform(Command<BukkitSource> command) {
         var internalCmd = WrappedBukkitCommand.wrap(command, new InternalBukkitCommand(this, command));
+        platformCommands.put(command, internalCmd);
         if (BukkitUtil.KNOWN_COMMANDS != null) {
             bukkitOGMapping.put(command.name(), internalCmd);
         } else {
             BukkitUtil.COMMAND_MAP.register(command.name(), internalCmd);
         }
         if (brigadierManager != null) {
-            brigadierManager.registerBukkitCommand(internalCmd, command, permissionResolver);
+            synchronized (pendingBrigadier) {
+                pendingBrigadier.add(new PendingBrigadierCommand(internalCmd, command));
+            }
+        }
+    }
+
+    /**
+     * Removing a command from the bukkit command map, under every label it got registered with,
+     * and from brigadier if it's applied
+     *
+     * @param command the command to unregister
+     */
+    @Override
+    protected void unregisterOnPlatform(Command<BukkitSource> command) {
+        WrappedBukkitCommand internalCmd = platformCommands.remove(command);
+        if (internalCmd == null) {
+            return;
+        }
+        if (BukkitUtil.KNOWN_COMMANDS != null) {
+            bukkitOGMapping.values().removeIf((registered) -> registered == internalCmd);
+        }
+        internalCmd.unregister(BukkitUtil.COMMAND_MAP);
+        if (brigadierManager != null) {
+            synchronized (pendingBrigadier) {
+                pendingBrigadier.removeIf((pending) -> pending.command() == command);
+            }
+            brigadierManager.unregisterBukkitCommand(internalCmd);
+        }
+    }
+
+    /**
+     * Registers the commands of the registration, or batch of them, into brigadier at once,
+     * then resends the commands to the online players at the end of the tick,
+     * a single time however many registrations happen during the tick.
+     * Nothing is resent while no player is online (e.g. while the server is starting),
+     * as players get the commands when joining anyway.
+     */
+    @Override
+    protected void syncPlatform() {
+        registerPendingBrigadier();
+        if (!plugin.isEnabled() || Bukkit.getOnlinePlayers().isEmpty()) {
+            return;
+        }
+        if (syncScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                syncScheduled.set(false);
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    player.updateCommands();
+                }
+            });
+        }
+    }
+
+    private void registerPendingBrigadier() {
+        List<PendingBrigadierCommand> pending;
+        synchronized (pendingBrigadier) {
+            if (pendingBrigadier.isEmpty()) {
+                return;
+            }
+            pending = List.copyOf(pendingBrigadier);
+            pendingBrigadier.clear();
+        }
+        for (PendingBrigadierCommand command : pending) {
+            brigadierManager.registerBukkitCommand(command.bukkitCommand(), command.command(), permissionResolver);
         }
     }
 
@@ -193,4 +275,17 @@ public final class BukkitImperat extends BaseImperat<BukkitSource> {
         //TODO apply on all currently registered commands
     }
 
+    private final class ShutdownListener implements Listener {
+
+        @EventHandler
+        public void onPluginDisable(PluginDisableEvent event) {
+            if (event.getPlugin() == plugin) {
+                shutdown();
+            }
+        }
+    }
+
+    private record PendingBrigadierCommand(WrappedBukkitCommand bukkitCommand, Command<BukkitSource> command) {
+    }
+
 }
@@ -7,6 +7,8 @@ import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.UUID;
+
 public final class BukkitSource implements Source {
 
     private final CommandSender sender;
@@ -28,6 +30,14 @@ public final class BukkitSource implements Source {
         return sender.getName();
     }
 
+    /**
+     * @return the unique id of the player, or the name-based id of other senders
+     */
+    @Override
+    public UUID uuid() {
+        return sender instanceof Player player ? player.getUniqueId() : Source.super.uuid();
+    }
+
     /**
      * @return The original command sender valueType instance
      */
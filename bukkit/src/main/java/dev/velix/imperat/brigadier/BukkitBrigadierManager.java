@@ -49,4 +49,8 @@ public final class BukkitBrigadierManager extends BaseBrigadierManager<BukkitSou
     ) {
         commodore.register(bukkitCmd, parseCommandIntoNode(imperatCommand), (player) -> resolver.hasPermission(wrapCommandSource(player), bukkitCmd.permission()));
     }
+
+    public void unregisterBukkitCommand(WrappedBukkitCommand bukkitCmd) {
+        commodore.unregister(bukkitCmd);
+    }
 }
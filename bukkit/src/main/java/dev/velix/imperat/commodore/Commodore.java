@@ -125,6 +125,14 @@ public interface Commodore<C extends Command> {
      */
     void register(LiteralCommandNode<?> node);
 
+    /**
+     * Removes the argument data registered against all
+     * aliases defined for the {@code command}.
+     *
+     * @param command the command to read aliases from
+     */
+    void unregister(C command);
+
     /**
      * Registers the provided argument data to the dispatcher.
      * Equivalent to calling
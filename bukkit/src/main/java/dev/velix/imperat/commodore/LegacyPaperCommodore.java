@@ -36,16 +36,17 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.Plugin;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 
 @SuppressWarnings("ALL")
 final class LegacyPaperCommodore extends AbstractCommodore<WrappedBukkitCommand> implements Listener {
 
-    private final List<CommodoreCommand> commands = new ArrayList<>();
+    //iterated by the players' command sends, which are async
+    private final List<CommodoreCommand> commands = new CopyOnWriteArrayList<>();
 
     LegacyPaperCommodore(Plugin plugin) throws ClassNotFoundException {
         Class.forName("com.destroystokyo.paper.event.brigadier.AsyncPlayerSendCommandsEvent");
@@ -87,6 +88,13 @@ final class LegacyPaperCommodore extends AbstractCommodore<WrappedBukkitCommand>
         }
     }
 
+    @Override
+    public void unregister(WrappedBukkitCommand command) {
+        Objects.requireNonNull(command, "command");
+        Collection<String> aliases = getAliases(command);
+        this.commands.removeIf(registered -> aliases.contains(registered.node().getName()));
+    }
+
     @EventHandler
     public void onPlayerSendCommandsEvent(AsyncPlayerSendCommandsEvent<?> event) {
         if (event.isAsynchronous() || !event.hasFiredAsync()) {
@@ -20,6 +20,8 @@ import org.bukkit.plugin.Plugin;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 @SuppressWarnings("ALL")
@@ -29,6 +31,8 @@ final class ModernPaperCommodore extends AbstractCommodore<WrappedBukkitCommand>
     private final LifecycleEventManager<Plugin> manager;
     private final LifecycleEventType.Prioritizable commandsField = Reflections.getField(LifecycleEvents.class, LifecycleEventType.Prioritizable.class).get(null);
     private final Method registrarEventRegistar;
+    //the lifecycle handlers can't be removed, they skip the commands unregistered since
+    private final Set<WrappedBukkitCommand> registered = ConcurrentHashMap.newKeySet();
 
     {
         try {
@@ -65,7 +69,13 @@ final class ModernPaperCommodore extends AbstractCommodore<WrappedBukkitCommand>
         Objects.requireNonNull(node, "node");
         Objects.requireNonNull(permissionTest, "permissionTest");
 
+        if (command != null) {
+            registered.add(command);
+        }
         manager.registerEventHandler(commandsField, event -> {
+            if (command != null && !registered.contains(command)) {
+                return;
+            }
             Commands registrar = null;
             try {
                 registrar = (Commands) registrarEventRegistar.invoke(event);
@@ -98,6 +108,18 @@ final class ModernPaperCommodore extends AbstractCommodore<WrappedBukkitCommand>
         register(null, node);
     }
 
+    /**
+     * Stops registering the argument data of the {@code command} when the commands get (re)loaded,
+     * the live dispatcher drops it along with the command's entries in the bukkit command map.
+     *
+     * @param command the command to read aliases from
+     */
+    @Override
+    public void unregister(WrappedBukkitCommand command) {
+        Objects.requireNonNull(command, "command");
+        registered.remove(command);
+    }
+
     @Override
     public CommandSender wrapNMSCommandSource(Object nmsCmdSource) {
         if (nmsCmdSource instanceof CommandSourceStack stack) {
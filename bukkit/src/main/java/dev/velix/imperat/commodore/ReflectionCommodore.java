@@ -36,6 +36,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandSendEvent;
 import org.bukkit.event.server.ServerLoadEvent;
@@ -105,6 +106,7 @@ final class ReflectionCommodore extends AbstractCommodore<WrappedBukkitCommand>
 
     private final Plugin plugin;
     private final List<LiteralCommandNode<?>> registeredNodes = new ArrayList<>();
+    private final Map<Command, Listener> dataSendListeners = new HashMap<>();
 
     ReflectionCommodore(Plugin plugin) {
         this.plugin = plugin;
@@ -165,7 +167,30 @@ final class ReflectionCommodore extends AbstractCommodore<WrappedBukkitCommand>
             }
         }
 
-        this.plugin.getServer().getPluginManager().registerEvents(new CommandDataSendListener(command, permissionTest), this.plugin);
+        Listener listener = new CommandDataSendListener(command, permissionTest);
+        Listener previous = this.dataSendListeners.put(command, listener);
+        if (previous != null) {
+            HandlerList.unregisterAll(previous);
+        }
+        this.plugin.getServer().getPluginManager().registerEvents(listener, this.plugin);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void unregister(WrappedBukkitCommand command) {
+        Objects.requireNonNull(command, "command");
+
+        Collection<String> aliases = getAliases(command);
+        RootCommandNode root = getDispatcher().getRoot();
+        for (String alias : aliases) {
+            removeChild(root, alias);
+        }
+        this.registeredNodes.removeIf(node -> aliases.contains(node.getName()));
+
+        Listener listener = this.dataSendListeners.remove(command);
+        if (listener != null) {
+            HandlerList.unregisterAll(listener);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package dev.velix.imperat.type;
 import dev.velix.imperat.BukkitSource;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.BaseParameterType;
+import dev.velix.imperat.command.parameters.type.ResolveResult;
 import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.internal.CommandInputStream;
 import dev.velix.imperat.exception.ImperatException;
@@ -44,6 +45,16 @@ public class ParameterPlayer extends BaseParameterType<BukkitSource, Player> {
         return Bukkit.getPlayer(input.toLowerCase()) != null;
     }
 
+    /**
+     * Looks the player up once while matching the tree, so that resolving it doesn't look it up again,
+     * "me" is left for the resolving as it depends on the source
+     */
+    @Override
+    public @NotNull ResolveResult<Player> tryParse(String input, CommandParameter<BukkitSource> parameter) {
+        final Player player = Bukkit.getPlayer(input.toLowerCase());
+        return player != null ? ResolveResult.success(player) : ResolveResult.failure(new UnknownPlayerException(input));
+    }
+
     @Override
     public Collection<String> suggestions() {
         return Bukkit.getOnlinePlayers().stream()
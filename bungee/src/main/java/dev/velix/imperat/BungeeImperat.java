@@ -18,12 +18,20 @@ import net.md_5.bungee.api.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BungeeCord has no event telling that the proxy shuts down,
+ * plugins have to call {@link #shutdown()} from their {@link Plugin#onDisable()}.
+ */
 public final class BungeeImperat extends BaseImperat<BungeeSource> {
 
     private final static BungeePermissionResolver DEFAULT_PERMISSION_RESOLVER = new BungeePermissionResolver();
 
     private final Plugin plugin;
     private final AdventureProvider<CommandSender> adventureProvider;
+    private final Map<Command<BungeeSource>, InternalBungeeCommand> platformCommands = new ConcurrentHashMap<>();
 
     private BungeeImperat(
         final Plugin plugin,
@@ -97,9 +105,18 @@ public final class BungeeImperat extends BaseImperat<BungeeSource> {
     }
 
     @Override
-    public void registerCommand(Command<BungeeSource> command) {
-        super.registerCommand(command);
-        plugin.getProxy().getPluginManager().registerCommand(plugin, new InternalBungeeCommand(this, command));
+    protected void registerOnPlatform(Command<BungeeSource> command) {
+        InternalBungeeCommand internalCmd = new InternalBungeeCommand(this, command);
+        platformCommands.put(command, internalCmd);
+        plugin.getProxy().getPluginManager().registerCommand(plugin, internalCmd);
+    }
+
+    @Override
+    protected void unregisterOnPlatform(Command<BungeeSource> command) {
+        InternalBungeeCommand internalCmd = platformCommands.remove(command);
+        if (internalCmd != null) {
+            plugin.getProxy().getPluginManager().unregisterCommand(internalCmd);
+        }
     }
 
     @Override
@@ -119,6 +136,7 @@ public final class BungeeImperat extends BaseImperat<BungeeSource> {
 
     @Override
     public void shutdownPlatform() {
+        shutdown();
         this.adventureProvider.close();
         this.plugin.onDisable();
     }
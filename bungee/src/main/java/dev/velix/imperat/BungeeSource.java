@@ -11,6 +11,8 @@ import net.md_5.bungee.api.chat.TextComponent;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.UUID;
+
 public final class BungeeSource implements Source {
 
     private final CommandSender sender;
@@ -26,6 +28,11 @@ public final class BungeeSource implements Source {
         return sender.getName();
     }
 
+    @Override
+    public UUID uuid() {
+        return sender instanceof ProxiedPlayer player ? player.getUniqueId() : Source.super.uuid();
+    }
+
     @Override
     public CommandSender origin() {
         return sender;
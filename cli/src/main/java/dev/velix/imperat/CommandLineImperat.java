@@ -25,6 +25,7 @@ public final class CommandLineImperat extends BaseImperat<ConsoleSource> {
 
     @Override
     public void shutdownPlatform() {
+        shutdown();
         input = null;
         throw new RuntimeException();
     }
@@ -1,11 +1,16 @@
 package dev.velix.imperat;
 
 import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandBatch;
+import dev.velix.imperat.command.RegistrationReport;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 public sealed interface CommandRegistrar<S extends Source> permits Imperat {
 
@@ -24,6 +29,24 @@ public sealed interface CommandRegistrar<S extends Source> permits Imperat {
      */
     void registerCommand(Object command);
 
+    /**
+     * Registers the commands of a session at once: they're all verified first,
+     * then registered into the dispatcher and the platform with a single sync
+     *
+     * @param session the session registering the commands into the batch
+     */
+    void batch(@NotNull Consumer<CommandBatch<S>> session);
+
+    /**
+     * Unregisters a command from the dispatcher,
+     * it may still be running for the dispatches that already found it
+     *
+     * @param name the name/alias of the command
+     * @return the unregistered command, null if there was none
+     */
+    @Nullable
+    Command<S> unregisterCommand(String name);
+
     /**
      * @param name the name/alias of the command
      * @return fetches {@link Command} with specific name
@@ -31,6 +54,14 @@ public sealed interface CommandRegistrar<S extends Source> permits Imperat {
     @Nullable
     Command<S> getCommand(final String name);
 
+    /**
+     * @param path the names or aliases of the commands from the root, separated by spaces,
+     *             e.g. "group member setperm"
+     * @return the command at the end of the path, which may be a root command
+     */
+    @Nullable
+    Command<S> getCommandByPath(final String path);
+
     /**
      * @param parameter the parameter
      * @return the command from the parameter's name
@@ -54,4 +85,13 @@ public sealed interface CommandRegistrar<S extends Source> permits Imperat {
      */
     Collection<? extends Command<S>> getRegisteredCommands();
 
+    /**
+     * Gets how long registering each registered command took,
+     * and how its usages were verified
+     *
+     * @return the registration reports, in the order the commands were registered
+     */
+    @NotNull
+    List<RegistrationReport> getRegistrationReports();
+
 }
@@ -5,7 +5,10 @@ import dev.velix.imperat.annotations.base.AnnotationParser;
 import dev.velix.imperat.annotations.base.AnnotationReader;
 import dev.velix.imperat.annotations.base.AnnotationReplacer;
 import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.DispatchTracer;
+import dev.velix.imperat.command.metrics.CommandMetrics;
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.CompletionMode;
 import dev.velix.imperat.command.tree.CommandDispatch;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.Source;
@@ -19,8 +22,10 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents the class that handles all
@@ -46,6 +51,13 @@ public non-sealed interface Imperat<S extends Source> extends
      */
     void shutdownPlatform();
 
+    /**
+     * Releases what the registered commands hold, e.g. writes the pending changes
+     * of their cooldown storages, the platforms call it once they're disabled.
+     * Calling it more than once is harmless.
+     */
+    void shutdown();
+
     /**
      * @return The command prefix
      */
@@ -167,6 +179,40 @@ public non-sealed interface Imperat<S extends Source> extends
      */
     CommandDispatch.Result dispatch(S sender, String commandLine);
 
+    /**
+     * Dispatches a command using {@link Context} only, like {@link #dispatch(Context)},
+     * tracking the execution of the usage, which may run later depending on its {@link dev.velix.imperat.command.CommandCoordinator}
+     *
+     * @param context the context
+     * @return a future of the usage match result, completed once the execution is over,
+     * with {@link CommandDispatch.Result#UNKNOWN} if it failed
+     */
+    @NotNull
+    CompletableFuture<CommandDispatch.Result> dispatchAsync(Context<S> context);
+
+    /**
+     * Dispatches a command with certain raw arguments, tracking its execution
+     *
+     * @param sender         the sender/executor of this command
+     * @param commandName    the name of the command to execute
+     * @param rawArgsOneLine the command's args input on ONE LINE
+     * @return a future of the usage match result, completed once the execution is over
+     * @see #dispatchAsync(Context)
+     */
+    @NotNull
+    CompletableFuture<CommandDispatch.Result> dispatchAsync(S sender, String commandName, String rawArgsOneLine);
+
+    /**
+     * Dispatches the full command-line, tracking its execution
+     *
+     * @param sender      the source/sender of the command
+     * @param commandLine the command line to dispatch
+     * @return a future of the usage match result, completed once the execution is over
+     * @see #dispatchAsync(Context)
+     */
+    @NotNull
+    CompletableFuture<CommandDispatch.Result> dispatchAsync(S sender, String commandLine);
+
     /**
      * @param command the data about the command being written in the chat box
      * @param sender  the sender writing the command
@@ -179,6 +225,90 @@ public non-sealed interface Imperat<S extends Source> extends
         return autoComplete(command, sender, argsOneLine.split(" "));
     }
 
+    /**
+     * @return the executor the suggestion resolvers complete on
+     */
+    @NotNull
+    Executor getSuggestionExecutor();
+
+    /**
+     * Sets the executor the suggestion resolvers complete on,
+     * the common fork-join pool by default.
+     *
+     * @param executor the executor to set
+     */
+    void setSuggestionExecutor(@NotNull Executor executor);
+
+    /**
+     * @return the time a suggestion request may take, or null if it may take as long as its resolvers do
+     */
+    @Nullable
+    Duration getSuggestionTimeout();
+
+    /**
+     * Sets the time a suggestion request may take, once it's elapsed the request
+     * completes with the suggestions collected so far, and the late ones are dropped.
+     *
+     * @param timeout the timeout to set, null to wait for all the resolvers
+     */
+    void setSuggestionTimeout(@Nullable Duration timeout);
+
+    /**
+     * @return how the suggestion resolvers of a request are run
+     */
+    @NotNull
+    CompletionMode getCompletionMode();
+
+    /**
+     * Sets how the suggestion resolvers of a request are run,
+     * {@link CompletionMode#SEQUENTIAL} by default.
+     *
+     * @param mode the mode to set
+     */
+    void setCompletionMode(@NotNull CompletionMode mode);
+
+    /**
+     * @return the maximum number of suggestions a request completes with
+     */
+    int getSuggestionLimit();
+
+    /**
+     * Sets the maximum number of suggestions a request completes with,
+     * unlimited ({@link Integer#MAX_VALUE}) by default.
+     *
+     * @param limit the limit to set
+     */
+    void setSuggestionLimit(int limit);
+
+    /**
+     * @return the tracer observing the dispatches, null if there's none
+     */
+    @Nullable
+    DispatchTracer<S> getDispatchTracer();
+
+    /**
+     * Sets the tracer observing the phases of every dispatch, none by default.
+     *
+     * @param tracer the tracer to set, null to stop tracing
+     * @see DispatchTracer#logging()
+     */
+    void setDispatchTracer(@Nullable DispatchTracer<S> tracer);
+
+    /**
+     * @return the metrics recorded for the dispatches, null if they aren't
+     */
+    @Nullable
+    CommandMetrics<S> getMetrics();
+
+    /**
+     * Sets where to record the metrics of every dispatch, none by default.
+     * The metrics are recorded alongside the {@link #getDispatchTracer()}, if any.
+     *
+     * @param metrics the metrics to record into, null to stop recording
+     * @see CommandMetrics#create()
+     */
+    void setMetrics(@Nullable CommandMetrics<S> metrics);
+
     /**
      * Debugs all registered commands and their usages.
      *
@@ -4,6 +4,8 @@ import dev.velix.imperat.annotations.base.element.ParameterElement;
 import dev.velix.imperat.command.ContextResolverFactory;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.ParameterType;
+import dev.velix.imperat.command.suggestions.CachedSuggestionResolver;
+import dev.velix.imperat.command.suggestions.SuggestionCaching;
 import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.internal.CommandInputStream;
@@ -158,6 +160,30 @@ public sealed interface ResolverRegistrar<S extends Source> permits Imperat {
      */
     void registerNamedSuggestionResolver(String name, SuggestionResolver<S> suggestionResolver);
 
+    /**
+     * Registers a suggestion resolver whose suggestions are cached
+     *
+     * @param name               the name of the suggestion resolver
+     * @param suggestionResolver the suggestion resolver to register
+     * @param caching            how its suggestions are cached
+     * @see CachedSuggestionResolver
+     */
+    default void registerNamedSuggestionResolver(String name, SuggestionResolver<S> suggestionResolver, SuggestionCaching caching) {
+        registerNamedSuggestionResolver(name, CachedSuggestionResolver.of(suggestionResolver, caching));
+    }
+
+    /**
+     * Drops the cached suggestions of a named suggestion resolver, to be called
+     * whenever the data it suggests from changes, does nothing if its suggestions aren't cached
+     *
+     * @param name the name of the suggestion resolver
+     */
+    default void invalidateNamedSuggestions(String name) {
+        if (getNamedSuggestionResolver(name) instanceof CachedSuggestionResolver<S> cached) {
+            cached.invalidate();
+        }
+    }
+
     /**
      * Fetches the {@link SourceResolver} from an internal registry.
      *
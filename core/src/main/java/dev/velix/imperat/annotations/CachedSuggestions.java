@@ -0,0 +1,26 @@
+package dev.velix.imperat.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the suggestions of a named suggestion resolver, when put on its class.
+ *
+ * @see dev.velix.imperat.command.suggestions.SuggestionCaching
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CachedSuggestions {
+
+    long ttl();
+
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    int maxSize() default 256;
+
+    boolean perSource() default false;
+
+}
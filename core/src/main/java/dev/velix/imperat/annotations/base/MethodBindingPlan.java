@@ -0,0 +1,114 @@
+package dev.velix.imperat.annotations.base;
+
+import dev.velix.imperat.Imperat;
+import dev.velix.imperat.annotations.base.element.MethodElement;
+import dev.velix.imperat.annotations.base.element.ParameterElement;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.ExecutionContext;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.exception.ImperatException;
+import dev.velix.imperat.resolvers.ContextResolver;
+import dev.velix.imperat.resolvers.SourceResolver;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * The way each parameter of a command method gets its value, decided once
+ * when the method is registered, following the same rules as
+ * {@link AnnotationHelper#loadParameterInstances(Imperat, List, Source, ExecutionContext, MethodElement)}.
+ * <p>
+ * Loading the values of an execution is then a single pass over the slot loaders,
+ * without looking up any resolver or usage parameter.
+ * <p>
+ * Context resolvers are therefore looked up when the method is registered, like the usage
+ * parameters the method's arguments are bound to, a context resolver registered afterwards isn't used
+ * for the method. Source resolvers not found at registration are looked up on every execution instead.
+ *
+ * @param <S> the source type
+ */
+final class MethodBindingPlan<S extends Source> {
+
+    private final SlotLoader<S>[] slots;
+
+    private MethodBindingPlan(SlotLoader<S>[] slots) {
+        this.slots = slots;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S extends Source> MethodBindingPlan<S> of(
+        Imperat<S> dispatcher,
+        List<CommandParameter<S>> fullParameters,
+        MethodElement method
+    ) {
+        SlotLoader<S>[] slots = (SlotLoader<S>[]) new SlotLoader<?>[method.size()];
+
+        ParameterElement firstParam = method.getParameterAt(0);
+        assert firstParam != null;
+        slots[0] = dispatcher.canBeSender(firstParam.getType())
+            ? SlotLoader.source()
+            : SlotLoader.resolvedSource(dispatcher, firstParam.getType());
+
+        for (int i = 1, p = 0; i < method.size(); i++, p++) {
+            ParameterElement actualParameter = method.getParameterAt(i);
+            assert actualParameter != null;
+
+            ContextResolver<S, ?> contextResolver = dispatcher.getMethodParamContextResolver(actualParameter);
+            if (contextResolver != null) {
+                slots[i] = (source, context) -> contextResolver.resolve(context, actualParameter);
+                p--;
+                continue;
+            }
+
+            if (p >= fullParameters.size()) {
+                slots[i] = SlotLoader.absent();
+                continue;
+            }
+            CommandParameter<S> parameter = fullParameters.get(p);
+            String name = parameter.name();
+            slots[i] = parameter.isFlag()
+                ? (source, context) -> context.getFlagValue(name)
+                : (source, context) -> context.getArgument(name);
+        }
+        return new MethodBindingPlan<>(slots);
+    }
+
+    /**
+     * @param source  the source executing the method
+     * @param context the context of the execution
+     * @return the values to invoke the method with
+     * @throws ImperatException if a value couldn't be resolved
+     */
+    Object[] load(S source, ExecutionContext<S> context) throws ImperatException {
+        final SlotLoader<S>[] slots = this.slots;
+        Object[] values = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = slots[i].load(source, context);
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    interface SlotLoader<S extends Source> {
+
+        Object load(S source, ExecutionContext<S> context) throws ImperatException;
+
+        static <S extends Source> SlotLoader<S> source() {
+            return (source, context) -> source;
+        }
+
+        static <S extends Source> SlotLoader<S> absent() {
+            return (source, context) -> null;
+        }
+
+        static <S extends Source> SlotLoader<S> resolvedSource(Imperat<S> dispatcher, Type type) {
+            SourceResolver<S, ?> resolver = dispatcher.getSourceResolver(type);
+            if (resolver == null) {
+                //looked up again by the context on every execution, so that a resolver registered
+                //afterwards is used, and a missing one is reported the same way
+                return (source, context) -> context.getResolvedSource(type);
+            }
+            return (source, context) -> resolver.resolve(source);
+        }
+    }
+}
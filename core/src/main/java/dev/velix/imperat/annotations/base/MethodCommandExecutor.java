@@ -23,6 +23,7 @@ public class MethodCommandExecutor<S extends Source> implements CommandExecution
     private final MethodElement method;
     private final MethodCaller.BoundMethodCaller boundMethodCaller;
     private final List<CommandParameter<S>> fullParameters;
+    private final MethodBindingPlan<S> bindingPlan;
 
     private MethodCommandExecutor(
         Imperat<S> dispatcher,
@@ -39,6 +40,7 @@ public class MethodCommandExecutor<S extends Source> implements CommandExecution
             boundMethodCaller = DefaultMethodCallerFactory.INSTANCE.createFor(method.getElement()).bindTo(methodOwner.getObjectInstance());
 
             this.fullParameters = fullParameters;
+            this.bindingPlan = MethodBindingPlan.of(dispatcher, fullParameters, method);
         } catch (Throwable e) {
             throw new RuntimeException(e);
         }
@@ -64,10 +66,7 @@ public class MethodCommandExecutor<S extends Source> implements CommandExecution
     public void execute(S source,
                         ExecutionContext<S> context) throws ImperatException {
 
-        var instances = AnnotationHelper.loadParameterInstances(
-            dispatcher, fullParameters,
-            source, context, method
-        );
+        var instances = bindingPlan.load(source, context);
 
         try {
             boundMethodCaller.call(instances);
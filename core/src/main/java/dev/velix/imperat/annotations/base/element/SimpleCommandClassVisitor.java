@@ -344,7 +344,7 @@ final class SimpleCommandClassVisitor<S extends Source> extends CommandClassVisi
             builder.cooldown(cooldown.value(), cooldown.unit());
 
         if (async != null)
-            builder.coordinator(CommandCoordinator.async());
+            builder.coordinator(CommandCoordinator.ordered());
 
         return builder.build(loadedCmd, method.isHelp());
 
@@ -0,0 +1,185 @@
+package dev.velix.imperat.command;
+
+import dev.velix.imperat.Imperat;
+import dev.velix.imperat.context.ExecutionContext;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.exception.SourceException;
+import dev.velix.imperat.util.ImperatDebugger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link CommandCoordinator} running the executions on an {@link Executor},
+ * off the thread dispatching them.
+ * <p>
+ * When ordered, the executions of a source (identified by its {@link Source#uuid()})
+ * run one after the other in the order they were dispatched, each source having its own
+ * serial queue, which only lives while the source has executions pending.
+ * Executions of different sources still run concurrently.
+ * <p>
+ * A source can't have more than {@link #getMaxInFlight()} executions pending,
+ * the ones dispatched past it are rejected with an error reported to the source.
+ *
+ * @param <S> the source type
+ * @see CommandCoordinator#ordered()
+ * @see Imperat#dispatchAsync(dev.velix.imperat.context.Context)
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class AsyncCommandCoordinator<S extends Source> implements CommandCoordinator<S> {
+
+    private final Executor executor;
+    private final boolean ordered;
+    private final int maxInFlight;
+
+    private final Map<UUID, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    AsyncCommandCoordinator(@NotNull Executor executor, boolean ordered, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight executions per source must be positive, got " + maxInFlight);
+        }
+        this.executor = executor;
+        this.ordered = ordered;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return an executor starting a virtual thread per execution when running on Java 21 or later,
+     * the common fork-join pool otherwise
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return the number of sources having executions pending
+     */
+    public int pendingSources() {
+        return queues.size();
+    }
+
+    @Override
+    public void coordinate(
+        @NotNull Imperat<S> imperat,
+        @NotNull S source,
+        @NotNull ExecutionContext<S> context,
+        @NotNull CommandExecution<S> execution
+    ) {
+        submit(imperat, source, context, execution);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> submit(
+        @NotNull Imperat<S> imperat,
+        @NotNull S source,
+        @NotNull ExecutionContext<S> context,
+        @NotNull CommandExecution<S> execution
+    ) {
+        final UUID key = source.uuid();
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        //completed once the execution is done, unlike the returned completion it can't be completed by callers
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+        final Runnable task = () -> {
+            Throwable failure = null;
+            try {
+                execution.execute(source, context);
+            } catch (Throwable ex) {
+                failure = ex;
+                imperat.handleThrowable(ex, context, AsyncCommandCoordinator.class, "submit");
+            } finally {
+                queues.computeIfPresent(key, (k, queue) -> --queue.pending == 0 ? null : queue);
+                finished.complete(null);
+                if (failure != null) {
+                    completion.completeExceptionally(failure);
+                } else {
+                    completion.complete(null);
+                }
+            }
+        };
+
+        //only the slot is reserved while computing, the task is scheduled once the computation returned,
+        //as it updates the same entry when done, possibly on this very thread
+        final boolean[] accepted = new boolean[1];
+        final CompletableFuture<?>[] previous = new CompletableFuture<?>[1];
+        queues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new SerialQueue();
+            }
+            if (queue.pending >= maxInFlight) {
+                return queue;
+            }
+            queue.pending++;
+            accepted[0] = true;
+            if (ordered) {
+                previous[0] = queue.tail;
+                queue.tail = finished;
+            }
+            return queue;
+        });
+
+        if (!accepted[0]) {
+            SourceException rejection = new SourceException(
+                SourceException.ErrorLevel.WARN,
+                "You have too many commands running, please wait for them to finish"
+            );
+            imperat.handleThrowable(rejection, context, AsyncCommandCoordinator.class, "submit");
+            return CompletableFuture.failedFuture(rejection);
+        }
+        if (ordered) {
+            //runs after the previous execution, even if it failed
+            previous[0].thenRunAsync(task, executor);
+        } else {
+            CompletableFuture.runAsync(task, executor);
+        }
+        return completion;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncCommandCoordinator(ordered=" + ordered + ", maxInFlight=" + maxInFlight + ")";
+    }
+
+    //guarded by the map's per-key compute
+    private static final class SerialQueue {
+        //completed once the last execution submitted is done, never exceptionally
+        private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+        private int pending;
+    }
+
+    private static final class DefaultExecutor {
+
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                //core targets Java 17, virtual threads are looked up reflectively
+                return (Executor) java.util.concurrent.Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            } catch (NoSuchMethodException ex) {
+                return ForkJoinPool.commonPool();
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                ImperatDebugger.warning("Couldn't create a virtual thread executor, using the common pool");
+                return ForkJoinPool.commonPool();
+            }
+        }
+    }
+}
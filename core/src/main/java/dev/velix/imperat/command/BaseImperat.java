@@ -5,6 +5,8 @@ import dev.velix.imperat.annotations.base.AnnotationParser;
 import dev.velix.imperat.annotations.base.AnnotationReader;
 import dev.velix.imperat.annotations.base.AnnotationReplacer;
 import dev.velix.imperat.annotations.base.element.ParameterElement;
+import dev.velix.imperat.command.cooldown.DefaultCooldownHandler;
+import dev.velix.imperat.command.metrics.CommandMetrics;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.type.ParameterType;
 import dev.velix.imperat.command.processors.CommandPostProcessor;
@@ -12,6 +14,9 @@ import dev.velix.imperat.command.processors.CommandPreProcessor;
 import dev.velix.imperat.command.processors.CommandProcessor;
 import dev.velix.imperat.command.processors.impl.UsageCooldownProcessor;
 import dev.velix.imperat.command.processors.impl.UsagePermissionProcessor;
+import dev.velix.imperat.command.suggestions.CachedSuggestionResolver;
+import dev.velix.imperat.command.suggestions.CompletionMode;
+import dev.velix.imperat.command.suggestions.SuggestionCaching;
 import dev.velix.imperat.command.suggestions.SuggestionResolverRegistry;
 import dev.velix.imperat.command.tree.CommandDispatch;
 import dev.velix.imperat.context.*;
@@ -25,16 +30,21 @@ import dev.velix.imperat.resolvers.*;
 import dev.velix.imperat.util.ImperatDebugger;
 import dev.velix.imperat.util.Preconditions;
 import dev.velix.imperat.util.Registry;
+import dev.velix.imperat.util.StringUtils;
 import dev.velix.imperat.util.TypeWrap;
+import dev.velix.imperat.verification.UsageVerification;
 import dev.velix.imperat.verification.UsageVerifier;
-import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 public abstract class BaseImperat<S extends Source> implements Imperat<S> {
 
@@ -49,19 +59,37 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     private @NotNull UsageVerifier<S> verifier;
     private @Nullable HelpProvider<S> provider = null;
     private @NotNull AnnotationParser<S> annotationParser;
+    private @NotNull Executor suggestionExecutor = ForkJoinPool.commonPool();
+    private @Nullable Duration suggestionTimeout = null;
+    private @NotNull CompletionMode completionMode = CompletionMode.SEQUENTIAL;
+    private int suggestionLimit = Integer.MAX_VALUE;
+    private @Nullable DispatchTracer<S> dispatchTracer = null;
+    private @Nullable CommandMetrics<S> metrics = null;
+    //the tracer and the metrics combined, read once per dispatch
+    private @Nullable DispatchTracer<S> activeTracer = null;
 
     private final Registry<Type, DependencySupplier> dependencyResolverRegistry = new Registry<>();
 
-    private final Map<String, Command<S>> commands = new HashMap<>();
-    private final Map<Class<? extends Throwable>, ThrowableResolver<?, S>> handlers = new HashMap<>();
-
-    private final Queue<CommandPreProcessor<S>> globalPreProcessors;
-    private final Queue<CommandPostProcessor<S>> globalPostProcessors;
+    //immutable snapshots, replaced as a whole under the registry lock, so that
+    //dispatching threads read them without locking while commands get (un)registered
+    private final Object registryLock = new Object();
+    private volatile Map<String, Command<S>> commands = Collections.emptyMap();
+    private volatile CommandIndex<S> commandIndex = CommandIndex.empty();
+    //in the order the commands were registered
+    private volatile Map<String, RegistrationReport> registrationReports = Collections.emptyMap();
+    private final ThreadLocal<OpenBatch> openBatch = new ThreadLocal<>();
+    private final Object handlersLock = new Object();
+    //copied on write, each copy is only read by the resolved handlers computed out of it
+    private Map<Class<? extends Throwable>, ThrowableResolver<?, S>> handlers = Collections.emptyMap();
+    //the nearest handler per concrete exception class, replaced whenever a handler is set
+    private volatile ClassValue<Optional<ThrowableResolver<?, S>>> resolvedHandlers = newResolvedHandlers(handlers);
+
+    private static final Comparator<CommandProcessor> PROCESSOR_ORDER = Comparator.comparingDouble(CommandProcessor::priority);
+    //sorted by priority
+    private volatile List<CommandPreProcessor<S>> globalPreProcessors = List.of();
+    private volatile List<CommandPostProcessor<S>> globalPostProcessors = List.of();
 
     protected BaseImperat(@NotNull PermissionResolver<S> permissionResolver) {
-        final Comparator<CommandProcessor> commandProcessorComparator = Comparator.comparingDouble(CommandProcessor::priority);
-        globalPreProcessors = new PriorityQueue<>(commandProcessorComparator);
-        globalPostProcessors = new PriorityQueue<>(commandProcessorComparator);
 
         contextFactory = ContextFactory.defaultFactory(this);
         contextResolverRegistry = ContextResolverRegistry.createDefault(this);
@@ -186,30 +214,137 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     }
 
     /**
-     * Registering a command into the dispatcher
+     * Registering a command into the dispatcher,
+     * or into the batch open on the current thread, if any
      *
      * @param command the command to register
      */
     @Override
     public void registerCommand(Command<S> command) {
+        OpenBatch batch = openBatch.get();
+        if (batch != null) {
+            batch.commands.add(command);
+            return;
+        }
+        registerAll(List.of(command));
+    }
+
+    /**
+     * Opens a batch on the current thread, in which every command registered,
+     * directly or through an annotated class, is only collected.
+     * Once the session returns, all the collected commands are verified,
+     * then added to the registry at once and pushed into the platform with a single sync.
+     * <p>
+     * If any of them fails verification, none of them is registered.
+     * A batch opened inside another one joins it.
+     *
+     * @param session the session registering the commands
+     */
+    @Override
+    public void batch(@NotNull Consumer<CommandBatch<S>> session) {
+        OpenBatch outer = openBatch.get();
+        if (outer != null) {
+            session.accept(outer);
+            return;
+        }
+        OpenBatch batch = new OpenBatch();
+        openBatch.set(batch);
         try {
-            for (CommandUsage<S> usage : command.usages()) {
-                if (!verifier.verify(usage))
-                    throw new InvalidCommandUsageException(command, usage);
-
-                for (CommandUsage<S> other : command.usages()) {
-                    if (other.equals(usage)) continue;
-                    if (verifier.areAmbiguous(usage, other))
-                        throw new AmbiguousUsageAdditionException(command, usage, other);
-                }
+            session.accept(batch);
+        } finally {
+            openBatch.remove();
+        }
+        registerAll(batch.commands);
+    }
 
+    private void registerAll(List<Command<S>> toRegister) {
+        if (toRegister.isEmpty()) {
+            return;
+        }
+        List<RegistrationReport> reports = new ArrayList<>(toRegister.size());
+        try {
+            for (Command<S> command : toRegister) {
+                final long start = System.nanoTime();
+                UsageVerification verification = UsageVerification.verify(verifier, command);
+
+                //freeze the tree so dispatching never sorts or allocates node collections
+                final long compileStart = System.nanoTime();
+                if (command.tree() != null) {
+                    command.tree().compile();
+                }
+                final long end = System.nanoTime();
+                reports.add(new RegistrationReport(command.name(), verification, end - compileStart, end - start));
             }
-            commands.put(command.name().toLowerCase(), command);
         } catch (RuntimeException ex) {
             ImperatDebugger.error(BaseImperat.class, "registerCommand(Command command)", ex);
             shutdownPlatform();
+            return;
+        }
+
+        List<Command<S>> replaced;
+        synchronized (registryLock) {
+            Map<String, Command<S>> updated = new HashMap<>(commands);
+            Map<String, RegistrationReport> updatedReports = new LinkedHashMap<>(registrationReports);
+            List<String> names = new ArrayList<>(toRegister.size());
+            replaced = new ArrayList<>(0);
+            for (int i = 0; i < toRegister.size(); i++) {
+                Command<S> command = toRegister.get(i);
+                String name = command.name().toLowerCase();
+                Command<S> previous = updated.put(name, command);
+                if (previous != null && previous != command) {
+                    if (previous instanceof CommandImpl<S> previousImpl) {
+                        previousImpl.setStructureListener(null);
+                    }
+                    replaced.add(previous);
+                }
+                if (command instanceof CommandImpl<S> impl) {
+                    impl.setStructureListener(() -> reindexCommand(name));
+                }
+                names.add(name);
+                updatedReports.remove(name);
+                updatedReports.put(name, reports.get(i));
+            }
+            commands = Collections.unmodifiableMap(updated);
+            commandIndex = commandIndex.update(commands, names);
+            registrationReports = Collections.unmodifiableMap(updatedReports);
+        }
+        for (RegistrationReport report : reports) {
+            ImperatDebugger.debug("Registered %s", report.format());
         }
 
+        //the platform would otherwise keep dispatching the commands whose names got taken over
+        for (Command<S> command : replaced) {
+            unregisterOnPlatform(command);
+        }
+        for (Command<S> command : toRegister) {
+            registerOnPlatform(command);
+        }
+        syncPlatform();
+    }
+
+    /**
+     * Registers a command into the platform,
+     * once it has been verified and added to the registry.
+     *
+     * @param command the command to register
+     */
+    protected void registerOnPlatform(Command<S> command) {
+    }
+
+    /**
+     * Removes a command from the platform, once it has been
+     * unregistered or replaced by another command of the same name.
+     *
+     * @param command the command to unregister
+     */
+    protected void unregisterOnPlatform(Command<S> command) {
+    }
+
+    /**
+     * Called once after a command, or a batch of them, has been registered into the platform,
+     * so that what the platform builds from its commands is only rebuilt once.
+     */
+    protected void syncPlatform() {
     }
 
     /**
@@ -228,6 +363,85 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         annotationParser.parseCommandClass(command);
     }
 
+    /**
+     * Unregisters a command from the dispatcher
+     *
+     * @param name the name/alias of the command
+     * @return the unregistered command, null if there was none
+     */
+    @Override
+    public @Nullable Command<S> unregisterCommand(String name) {
+        Command<S> command;
+        synchronized (registryLock) {
+            command = getCommand(name);
+            if (command == null) {
+                return null;
+            }
+            String removed = command.name().toLowerCase();
+            Map<String, Command<S>> updated = new HashMap<>(commands);
+            updated.remove(removed);
+            commands = Collections.unmodifiableMap(updated);
+            commandIndex = commandIndex.update(commands, List.of(removed));
+            if (command instanceof CommandImpl<S> impl) {
+                impl.setStructureListener(null);
+            }
+            Map<String, RegistrationReport> updatedReports = new LinkedHashMap<>(registrationReports);
+            updatedReports.remove(command.name().toLowerCase());
+            registrationReports = Collections.unmodifiableMap(updatedReports);
+        }
+        unregisterOnPlatform(command);
+        syncPlatform();
+        return command;
+    }
+
+    /**
+     * @return the reports of the registrations of the registered commands, in the order they were registered
+     */
+    @Override
+    public @NotNull List<RegistrationReport> getRegistrationReports() {
+        return List.copyOf(registrationReports.values());
+    }
+
+    @Override
+    public void shutdown() {
+        //a storage is usually shared by many usages, it's closed once
+        Set<AutoCloseable> storages = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Command<S> command : commands.values()) {
+            collectClosableStorages(command, storages);
+        }
+        for (AutoCloseable storage : storages) {
+            try {
+                storage.close();
+            } catch (Exception ex) {
+                ImperatDebugger.error(BaseImperat.class, "shutdown()", ex);
+            }
+        }
+    }
+
+    private void collectClosableStorages(Command<S> command, Set<AutoCloseable> storages) {
+        collectClosableStorage(command.getDefaultUsage(), storages);
+        for (CommandUsage<S> usage : command.usages()) {
+            collectClosableStorage(usage, storages);
+        }
+        for (Command<S> subCommand : command.getSubCommands()) {
+            collectClosableStorages(subCommand, storages);
+        }
+    }
+
+    private void collectClosableStorage(@Nullable CommandUsage<S> usage, Set<AutoCloseable> storages) {
+        if (usage != null
+            && usage.getCooldownHandler() instanceof DefaultCooldownHandler<S> handler
+            && handler.getStorage() instanceof AutoCloseable closeable) {
+            storages.add(closeable);
+        }
+    }
+
+    private void reindexCommand(String name) {
+        synchronized (registryLock) {
+            commandIndex = commandIndex.update(commands, List.of(name));
+        }
+    }
+
     /**
      * @param name the name/alias of the command
      * @return fetches {@link Command} with specific name/alias
@@ -235,14 +449,20 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     @Override
     public @Nullable Command<S> getCommand(final String name) {
         final String cmdName = name.toLowerCase();
-
         Command<S> result = commands.get(cmdName);
         if (result != null) return result;
-        for (Command<S> headCommands : commands.values()) {
-            if (headCommands.hasName(cmdName)) return headCommands;
-        }
+        return commandIndex.byAlias(cmdName);
+    }
 
-        return null;
+    /**
+     * @param path the names or aliases of the commands from the root, separated by spaces,
+     *             e.g. "group member setperm"
+     * @return the command at the end of the path
+     */
+    @Override
+    public @Nullable Command<S> getCommandByPath(String path) {
+        String normalized = String.join(" ", path.trim().toLowerCase().split("\\s+"));
+        return commandIndex.byPath(normalized);
     }
 
     /**
@@ -321,13 +541,7 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     public @Nullable Command<S> getSubCommand(String owningCommand, String name) {
         Command<S> owningCmd = getCommand(owningCommand);
         if (owningCmd == null) return null;
-
-        for (Command<S> subCommand : owningCmd.getSubCommands()) {
-            Command<S> result = search(subCommand, name);
-            if (result != null) return result;
-        }
-
-        return null;
+        return commandIndex.descendant(owningCmd.name().toLowerCase(), name.toLowerCase());
     }
 
     /**
@@ -483,6 +697,10 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
      */
     @Override
     public void registerNamedSuggestionResolver(String name, SuggestionResolver<S> suggestionResolver) {
+        SuggestionCaching caching = SuggestionCaching.declaredBy(suggestionResolver.getClass());
+        if (caching != null && !(suggestionResolver instanceof CachedSuggestionResolver<S>)) {
+            suggestionResolver = CachedSuggestionResolver.of(suggestionResolver, caching);
+        }
         suggestionResolverRegistry.registerNamedResolver(name, suggestionResolver);
     }
 
@@ -551,24 +769,6 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         this.verifier = usageVerifier;
     }
 
-    @ApiStatus.Internal
-    private Command<S> search(Command<S> sub, String name) {
-        if (sub.hasName(name)) {
-            return sub;
-        }
-
-        for (Command<S> other : sub.getSubCommands()) {
-
-            if (other.hasName(name)) {
-                return other;
-            } else {
-                return search(other, name);
-            }
-        }
-
-        return null;
-    }
-
     /**
      * Registers a command pre-processor
      *
@@ -577,7 +777,9 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     @Override
     public void registerGlobalPreProcessor(CommandPreProcessor<S> preProcessor) {
         Preconditions.notNull(preProcessor, "Pre-processor");
-        globalPreProcessors.add(preProcessor);
+        synchronized (registryLock) {
+            globalPreProcessors = withProcessor(globalPreProcessors, preProcessor);
+        }
     }
 
     /**
@@ -588,23 +790,109 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     @Override
     public void registerGlobalPostProcessor(CommandPostProcessor<S> postProcessor) {
         Preconditions.notNull(postProcessor, "Post-processor");
-        globalPostProcessors.add(postProcessor);
+        synchronized (registryLock) {
+            globalPostProcessors = withProcessor(globalPostProcessors, postProcessor);
+        }
+    }
+
+    private static <P extends CommandProcessor> List<P> withProcessor(List<P> processors, P processor) {
+        List<P> updated = new ArrayList<>(processors);
+        updated.add(processor);
+        //stable, processors of the same priority run in the order they were registered
+        updated.sort(PROCESSOR_ORDER);
+        return List.copyOf(updated);
+    }
+
+    @Override
+    public @Nullable DispatchTracer<S> getDispatchTracer() {
+        return dispatchTracer;
+    }
+
+    @Override
+    public void setDispatchTracer(@Nullable DispatchTracer<S> tracer) {
+        this.dispatchTracer = tracer;
+        updateActiveTracer();
+    }
+
+    @Override
+    public @Nullable CommandMetrics<S> getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void setMetrics(@Nullable CommandMetrics<S> metrics) {
+        this.metrics = metrics;
+        updateActiveTracer();
+    }
+
+    private void updateActiveTracer() {
+        if (metrics == null) {
+            activeTracer = dispatchTracer;
+        } else if (dispatchTracer == null) {
+            activeTracer = metrics;
+        } else {
+            activeTracer = DispatchTracer.compose(metrics, dispatchTracer);
+        }
     }
 
     @Override
     public @NotNull CommandDispatch.Result dispatch(Context<S> context) {
+        return run(context).result();
+    }
+
+    @Override
+    public @NotNull CompletableFuture<CommandDispatch.Result> dispatchAsync(Context<S> context) {
+        Outcome outcome = run(context);
+        if (outcome.completion() == null) {
+            return CompletableFuture.completedFuture(outcome.result());
+        }
+        //a failed execution has already been reported by its coordinator
+        return outcome.completion().handle((ignored, ex) -> ex == null ? outcome.result() : CommandDispatch.Result.UNKNOWN);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<CommandDispatch.Result> dispatchAsync(S source, String commandName, String rawArgsOneLine) {
+        Context<S> context = createContext(source, commandName, rawArgsOneLine, 0);
+        return context == null ? CompletableFuture.completedFuture(CommandDispatch.Result.UNKNOWN) : dispatchAsync(context);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<CommandDispatch.Result> dispatchAsync(S source, String commandLine) {
+        Context<S> context = createContext(source, commandLine);
+        return context == null ? CompletableFuture.completedFuture(CommandDispatch.Result.UNKNOWN) : dispatchAsync(context);
+    }
+
+    private Outcome run(Context<S> context) {
+        final DispatchTracer<S> tracer = this.activeTracer;
+        final long start = tracer == null ? 0L : System.nanoTime();
         try {
-            return handleExecution(context);
+            Outcome outcome = handleExecution(context, tracer);
+            if (tracer != null && outcome != Outcome.FAILED) {
+                tracer.onDispatched(context, outcome.result(), System.nanoTime() - start);
+            }
+            return outcome;
         } catch (Throwable ex) {
+            if (tracer != null) {
+                tracer.onFailure(context, ex);
+            }
             this.handleThrowable(ex, context, BaseImperat.class, "dispatch");
-            return CommandDispatch.Result.UNKNOWN;
+            return Outcome.FAILED;
         }
     }
 
     @Override
     public @NotNull CommandDispatch.Result dispatch(S source, Command<S> command, String[] rawInput) {
+        final DispatchTracer<S> tracer = this.activeTracer;
+        if (tracer == null) {
+            return dispatch(source, command, ArgumentQueue.parse(rawInput));
+        }
+        final long start = System.nanoTime();
         ArgumentQueue rawArguments = ArgumentQueue.parse(rawInput);
+        tracer.onTokenize(source, command, rawArguments, System.nanoTime() - start);
+        return dispatch(source, command, rawArguments);
+    }
 
+    private @NotNull CommandDispatch.Result dispatch(S source, Command<S> command, ArgumentQueue rawArguments) {
         Context<S> plainContext = getContextFactory()
             .createContext(source, command, rawArguments);
 
@@ -625,18 +913,51 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
 
     @Override
     public @NotNull CommandDispatch.Result dispatch(S sender, String commandName, String rawArgsOneLine) {
-        return dispatch(sender, commandName, rawArgsOneLine.split(" "));
+        return dispatch(sender, commandName, rawArgsOneLine, 0);
     }
 
     @Override
     public CommandDispatch.Result dispatch(S sender, String line) {
-        String[] lineArgs = line.split(" ");
-        String[] argumentsOnly = new String[lineArgs.length - 1];
-        System.arraycopy(lineArgs, 1, argumentsOnly, 0, lineArgs.length - 1);
-        return dispatch(sender, lineArgs[0], argumentsOnly);
+        Context<S> context = createContext(sender, line);
+        return context == null ? CommandDispatch.Result.UNKNOWN : dispatch(context);
     }
 
-    private CommandDispatch.Result handleExecution(Context<S> context) throws ImperatException {
+    private CommandDispatch.Result dispatch(S source, String commandName, String line, int argumentsStart) {
+        Context<S> context = createContext(source, commandName, line, argumentsStart);
+        return context == null ? CommandDispatch.Result.UNKNOWN : dispatch(context);
+    }
+
+    private @Nullable Context<S> createContext(S source, String line) {
+        int space = line.indexOf(' ');
+        if (space == -1) {
+            return createContext(source, line, line, line.length());
+        }
+        return createContext(source, line.substring(0, space), line, space + 1);
+    }
+
+    /**
+     * @return the context of the command line, null if the command is unknown, which has been reported
+     */
+    private @Nullable Context<S> createContext(S source, String commandName, String line, int argumentsStart) {
+        Command<S> command = getCommand(commandName);
+        if (command == null) {
+            source.error("Unknown command input: '" + commandName + "'");
+            return null;
+        }
+        final DispatchTracer<S> tracer = this.activeTracer;
+        final long start = tracer == null ? 0L : System.nanoTime();
+        ArgumentQueue rawArguments = ArgumentQueue.empty();
+        StringUtils.tokenize(line, argumentsStart, rawArguments);
+        if (tracer != null) {
+            tracer.onTokenize(source, command, rawArguments, System.nanoTime() - start);
+        }
+        return getContextFactory().createContext(source, command, rawArguments);
+    }
+
+    /**
+     * @return the outcome of the dispatch, {@link Outcome#FAILED} if it failed with an error that has been reported
+     */
+    private Outcome handleExecution(Context<S> context, @Nullable DispatchTracer<S> tracer) throws ImperatException {
         Command<S> command = context.command();
         S source = context.source();
 
@@ -646,13 +967,14 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
 
         if (context.arguments().isEmpty()) {
             CommandUsage<S> defaultUsage = command.getDefaultUsage();
-            executeUsage(command, source, context, defaultUsage);
-            return CommandDispatch.Result.INCOMPLETE;
+            return Outcome.of(CommandDispatch.Result.INCOMPLETE, executeUsage(command, source, context, defaultUsage, tracer));
         }
 
+        final long matchStart = tracer == null ? 0L : System.nanoTime();
         CommandDispatch<S> searchResult = command.contextMatch(context);
-        searchResult.visualize();
-
+        if (tracer != null) {
+            tracer.onTreeMatch(context, searchResult, System.nanoTime() - matchStart);
+        }
 
         CommandUsage<S> usage = searchResult.toUsage(command);
         if (usage == null) {
@@ -660,82 +982,148 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         }
 
         //executing usage
+        CompletableFuture<Void> completion;
         if (searchResult.result() == CommandDispatch.Result.COMPLETE)
-            executeUsage(command, source, context, usage);
+            completion = executeUsage(command, source, context, usage, tracer);
         else if (searchResult.result() == CommandDispatch.Result.INCOMPLETE) {
             var lastParameter = searchResult.getLastParameter();
             if (lastParameter.isCommand()) {
-                executeUsage(command, source, context, lastParameter.asCommand().getDefaultUsage());
+                completion = executeUsage(command, source, context, lastParameter.asCommand().getDefaultUsage(), tracer);
             } else {
-                executeUsage(command, source, context, usage);
+                completion = executeUsage(command, source, context, usage, tracer);
             }
         } else {
             throw new InvalidSyntaxException();
         }
-        return searchResult.result();
+        return Outcome.of(searchResult.result(), completion);
     }
 
-    private void executeUsage(
+    /**
+     * @return the completion of the execution, null if the processors or the resolving
+     * of the arguments failed with an error, which has been reported
+     */
+    private @Nullable CompletableFuture<Void> executeUsage(
         final Command<S> command,
         final S source,
         final Context<S> context,
-        final CommandUsage<S> usage
+        final CommandUsage<S> usage,
+        final @Nullable DispatchTracer<S> tracer
     ) throws ImperatException {
+        long phaseStart = tracer == null ? 0L : System.nanoTime();
+
         //global pre-processing
-        preProcess(context, usage);
+        if (!preProcess(context, usage, tracer)) {
+            return null;
+        }
 
         //per command pre-processing
         command.preProcess(this, context, usage);
 
+        if (tracer != null) {
+            long now = System.nanoTime();
+            tracer.onPreProcess(context, usage, now - phaseStart);
+            phaseStart = now;
+        }
+
         ResolvedContext<S> resolvedContext = contextFactory.createResolvedContext(context, usage);
-        resolvedContext.resolve();
+        ImperatException error = resolvedContext.tryResolve();
+        if (error != null) {
+            if (tracer != null) {
+                tracer.onFailure(resolvedContext, error);
+            }
+            this.handleThrowable(error, resolvedContext, BaseImperat.class, "executeUsage");
+            return null;
+        }
+
+        if (tracer != null) {
+            long now = System.nanoTime();
+            tracer.onResolve(resolvedContext, usage, now - phaseStart);
+            phaseStart = now;
+        }
 
         //global post-processing
-        postProcess(resolvedContext);
+        if (!postProcess(resolvedContext, tracer)) {
+            return null;
+        }
 
         //per command post-processing
         command.postProcess(this, resolvedContext, usage);
 
         //executing the usage
-        usage.execute(this, source, resolvedContext);
+        CompletableFuture<Void> completion = usage.submit(this, source, resolvedContext);
+
+        if (tracer != null) {
+            final long executeStart = phaseStart;
+            completion.whenComplete((ignored, ex) -> tracer.onExecute(resolvedContext, usage, System.nanoTime() - executeStart));
+        }
+        return completion;
     }
 
+    /**
+     * @param result     the result of the dispatch
+     * @param completion the completion of the execution, null if the dispatch failed
+     */
+    private record Outcome(CommandDispatch.Result result, @Nullable CompletableFuture<Void> completion) {
+
+        private static final Outcome FAILED = new Outcome(CommandDispatch.Result.UNKNOWN, null);
+
+        private static Outcome of(CommandDispatch.Result result, @Nullable CompletableFuture<Void> completion) {
+            return completion == null ? FAILED : new Outcome(result, completion);
+        }
+    }
+
+    /**
+     * @return whether all the processors passed, a failing one having its error reported
+     */
     //TODO improve (DRY)
-    private void preProcess(
+    private boolean preProcess(
         @NotNull Context<S> context,
-        @NotNull CommandUsage<S> usage
+        @NotNull CommandUsage<S> usage,
+        @Nullable DispatchTracer<S> tracer
     ) {
 
         for (CommandPreProcessor<S> preProcessor : globalPreProcessors) {
             try {
                 preProcessor.process(this, context, usage);
             } catch (Throwable ex) {
+                if (tracer != null) {
+                    tracer.onFailure(context, ex);
+                }
                 this.handleThrowable(
                     ex,
                     context, preProcessor.getClass(),
                     "CommandPreProcessor#process"
                 );
-                break;
+                return false;
             }
         }
+        return true;
     }
 
+    /**
+     * @return whether all the processors passed, a failing one having its error reported
+     */
     //TODO improve (DRY)
-    private void postProcess(
-        @NotNull ResolvedContext<S> context
+    private boolean postProcess(
+        @NotNull ResolvedContext<S> context,
+        @Nullable DispatchTracer<S> tracer
     ) {
         for (CommandPostProcessor<S> postProcessor : globalPostProcessors) {
             try {
                 postProcessor.process(this, context);
             } catch (Throwable ex) {
+                if (tracer != null) {
+                    tracer.onFailure(context, ex);
+                }
                 this.handleThrowable(
                     ex,
                     context, postProcessor.getClass(),
                     "CommandPostProcessor#process"
                 );
-                break;
+                return false;
             }
         }
+        return true;
     }
 
     /**
@@ -749,6 +1137,54 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         return command.autoCompleter().autoComplete(this, source, args);
     }
 
+    @Override
+    public @NotNull Executor getSuggestionExecutor() {
+        return suggestionExecutor;
+    }
+
+    @Override
+    public void setSuggestionExecutor(@NotNull Executor executor) {
+        Preconditions.notNull(executor, "executor");
+        this.suggestionExecutor = executor;
+    }
+
+    @Override
+    public @Nullable Duration getSuggestionTimeout() {
+        return suggestionTimeout;
+    }
+
+    @Override
+    public void setSuggestionTimeout(@Nullable Duration timeout) {
+        if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            throw new IllegalArgumentException("Suggestion timeout must be positive, got " + timeout);
+        }
+        this.suggestionTimeout = timeout;
+    }
+
+    @Override
+    public @NotNull CompletionMode getCompletionMode() {
+        return completionMode;
+    }
+
+    @Override
+    public void setCompletionMode(@NotNull CompletionMode mode) {
+        Preconditions.notNull(mode, "mode");
+        this.completionMode = mode;
+    }
+
+    @Override
+    public int getSuggestionLimit() {
+        return suggestionLimit;
+    }
+
+    @Override
+    public void setSuggestionLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive, got " + limit);
+        }
+        this.suggestionLimit = limit;
+    }
+
     /**
      * Gets all registered commands
      *
@@ -781,20 +1217,36 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
     @Nullable
     @SuppressWarnings("unchecked")
     public <T extends Throwable> ThrowableResolver<T, S> getThrowableResolver(Class<T> exception) {
-        Class<?> current = exception;
-        while (current != null && Throwable.class.isAssignableFrom(current)) {
-            var resolver = handlers.get(current);
-            if (resolver != null) {
-                return (ThrowableResolver<T, S>) resolver;
-            }
-            current = current.getSuperclass();
-        }
-        return null;
+        return (ThrowableResolver<T, S>) resolvedHandlers.get(exception).orElse(null);
     }
 
     @Override
     public <T extends Throwable> void setThrowableResolver(Class<T> exception, ThrowableResolver<T, S> handler) {
-        this.handlers.put(exception, handler);
+        synchronized (handlersLock) {
+            Map<Class<? extends Throwable>, ThrowableResolver<?, S>> copy = new HashMap<>(handlers);
+            copy.put(exception, handler);
+            this.handlers = Map.copyOf(copy);
+            this.resolvedHandlers = newResolvedHandlers(this.handlers);
+        }
+    }
+
+    private static <S extends Source> ClassValue<Optional<ThrowableResolver<?, S>>> newResolvedHandlers(
+        Map<Class<? extends Throwable>, ThrowableResolver<?, S>> handlers
+    ) {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<ThrowableResolver<?, S>> computeValue(Class<?> type) {
+                Class<?> current = type;
+                while (current != null && Throwable.class.isAssignableFrom(current)) {
+                    var resolver = handlers.get(current);
+                    if (resolver != null) {
+                        return Optional.of(resolver);
+                    }
+                    current = current.getSuperclass();
+                }
+                return Optional.empty();
+            }
+        };
     }
 
     @Override
@@ -805,6 +1257,11 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         final Class<?> owning,
         final String methodName
     ) {
+        final CommandMetrics<S> metrics = this.metrics;
+        if (metrics != null && context != null) {
+            metrics.recordThrowable(context, throwable);
+        }
+
         Throwable current = throwable;
 
         while (current != null) {
@@ -839,4 +1296,26 @@ public abstract class BaseImperat<S extends Source> implements Imperat<S> {
         }
     }
 
+    private final class OpenBatch implements CommandBatch<S> {
+
+        private final List<Command<S>> commands = new ArrayList<>();
+
+        @Override
+        public CommandBatch<S> register(@NotNull Command<S> command) {
+            commands.add(command);
+            return this;
+        }
+
+        @Override
+        public CommandBatch<S> register(@NotNull Object command) {
+            //annotated classes register their commands through registerCommand, which collects them here
+            registerCommand(command);
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return commands.size();
+        }
+    }
 }
@@ -466,6 +466,15 @@ public interface Command<S extends Source> extends CommandParameter<S> {
             return subCommand(name, mainUsage, false);
         }
 
+        public Builder<S> dispatchCache(int maxSize) {
+            CommandTree<S> tree = cmd.tree();
+            if (tree == null) {
+                throw new IllegalStateException("Only root commands can have a dispatch cache");
+            }
+            tree.enableDispatchCache(maxSize);
+            return this;
+        }
+
         public Builder<S> preProcessor(CommandPreProcessor<S> preProcessor) {
             cmd.setPreProcessor(preProcessor);
             return this;
@@ -0,0 +1,35 @@
+package dev.velix.imperat.command;
+
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects the commands registered during a batch,
+ * to register them all at once when the batch is over.
+ *
+ * @param <S> the source type
+ * @see dev.velix.imperat.Imperat#batch(java.util.function.Consumer)
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public interface CommandBatch<S extends Source> {
+
+    /**
+     * @param command the command to register
+     * @return this batch
+     */
+    CommandBatch<S> register(@NotNull Command<S> command);
+
+    /**
+     * Registers the commands of an annotated command class
+     *
+     * @param command the annotated command instance to parse
+     * @return this batch
+     */
+    CommandBatch<S> register(@NotNull Object command);
+
+    /**
+     * @return the number of commands collected so far
+     */
+    int size();
+}
@@ -7,11 +7,17 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 
 public interface CommandCoordinator<S extends Source> {
 
+    /**
+     * The default maximum number of executions a source can have pending
+     * with an {@link #ordered()} coordinator.
+     */
+    int DEFAULT_MAX_IN_FLIGHT = 16;
+
     static <S extends Source> CommandCoordinator<S> sync() {
         return (api, source, context, execution) -> {
             try {
@@ -22,26 +28,40 @@ public interface CommandCoordinator<S extends Source> {
         };
     }
 
+    /**
+     * @param service the executor to run the executions on,
+     *                null for {@link AsyncCommandCoordinator#defaultExecutor()}
+     * @return a coordinator running the executions concurrently, in no particular order
+     */
     static <S extends Source> CommandCoordinator<S> async(final @Nullable ExecutorService service) {
-        return ((api, source, context, execution) -> {
-            ExecutorService executorService = service;
-            if (executorService == null) {
-                executorService = ForkJoinPool.commonPool();
-            }
-            CompletableFuture.runAsync(() -> {
-                try {
-                    execution.execute(source, context);
-                } catch (Exception e) {
-                    api.handleThrowable(e, context, CommandCoordinator.class, "async-lambda");
-                }
-            }, executorService);
-        });
+        return new AsyncCommandCoordinator<>(
+            service == null ? AsyncCommandCoordinator.defaultExecutor() : service,
+            false, Integer.MAX_VALUE
+        );
     }
 
     static <S extends Source> CommandCoordinator<S> async() {
         return async(null);
     }
 
+    /**
+     * @param executor    the executor to run the executions on
+     * @param maxInFlight the maximum number of executions a source can have pending
+     * @return a coordinator running the executions of every source one after the other,
+     * in the order they were dispatched
+     */
+    static <S extends Source> CommandCoordinator<S> ordered(@NotNull Executor executor, int maxInFlight) {
+        return new AsyncCommandCoordinator<>(executor, true, maxInFlight);
+    }
+
+    /**
+     * @return a coordinator running the executions of every source one after the other,
+     * in the order they were dispatched, on {@link AsyncCommandCoordinator#defaultExecutor()}
+     */
+    static <S extends Source> CommandCoordinator<S> ordered() {
+        return ordered(AsyncCommandCoordinator.defaultExecutor(), DEFAULT_MAX_IN_FLIGHT);
+    }
+
     void coordinate(
         @NotNull Imperat<S> imperat,
         @NotNull S source,
@@ -49,4 +69,20 @@ public interface CommandCoordinator<S extends Source> {
         @NotNull CommandExecution<S> execution
     );
 
+    /**
+     * Coordinates the execution like {@link #coordinate}, tracking when it's over.
+     * Coordinators running the execution later should override it.
+     *
+     * @return a future completed once the execution is over, exceptionally if it failed
+     */
+    default @NotNull CompletableFuture<Void> submit(
+        @NotNull Imperat<S> imperat,
+        @NotNull S source,
+        @NotNull ExecutionContext<S> context,
+        @NotNull CommandExecution<S> execution
+    ) {
+        coordinate(imperat, source, context, execution);
+        return CompletableFuture.completedFuture(null);
+    }
+
 }
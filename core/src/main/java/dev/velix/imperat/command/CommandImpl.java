@@ -9,6 +9,7 @@ import dev.velix.imperat.command.suggestions.AutoCompleter;
 import dev.velix.imperat.command.tree.CommandDispatch;
 import dev.velix.imperat.command.tree.CommandTree;
 import dev.velix.imperat.command.tree.CommandTreeVisualizer;
+import dev.velix.imperat.context.ArgumentQueue;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.ResolvedContext;
 import dev.velix.imperat.context.Source;
@@ -32,9 +33,15 @@ final class CommandImpl<S extends Source> implements Command<S> {
 
     private final String name;
     private final int position;
-    private final List<String> aliases = new ArrayList<>();
-    private final Map<String, Command<S>> children = new TreeMap<>();
-    private final UsageMap<S> usages = new UsageMap<>();
+    //immutable snapshots, replaced as a whole under the lock of the command,
+    //so dispatching threads read them without locking while commands get modified
+    private volatile List<String> aliases = List.of();
+    private volatile Map<String, Command<S>> children = Collections.emptyMap();
+    //the children by their lower-cased names and aliases
+    private volatile Map<String, Command<S>> childrenByAlias = Collections.emptyMap();
+    //notified when the aliases or sub-commands of this command, or of its sub-commands, change
+    private volatile @Nullable Runnable structureListener;
+    private volatile UsageMap<S> usages = new UsageMap<>();
     private final AutoCompleter<S> autoCompleter;
     private final @Nullable CommandTree<S> commandTree;
     private final @NotNull CommandTreeVisualizer<S> visualizer;
@@ -131,9 +138,15 @@ final class CommandImpl<S extends Source> implements Command<S> {
     @Override
     public @NotNull CommandDispatch<S> contextMatch(Context<S> context) {
         if (commandTree != null) {
-            var copy = context.arguments().copy();
-            copy.removeIf((arg) -> arg.isEmpty() || arg.isBlank());
-            return commandTree.contextMatch(copy);
+            ArgumentQueue arguments = context.arguments();
+            for (String arg : arguments) {
+                if (arg.isBlank()) {
+                    arguments = arguments.copy();
+                    arguments.removeIf(String::isBlank);
+                    break;
+                }
+            }
+            return commandTree.contextMatch(arguments, context.parsedArguments());
         } else {
             throw new IllegalCallerException("Cannot match a sub command in a root's execution !");
         }
@@ -238,9 +251,15 @@ final class CommandImpl<S extends Source> implements Command<S> {
      * @param aliases the aliases for te command to set
      */
     @Override
-    public void addAliases(List<String> aliases) {
+    public synchronized void addAliases(List<String> aliases) {
+        List<String> updated = new ArrayList<>(this.aliases);
         for (String alias : aliases)
-            this.aliases.add(alias.toLowerCase());
+            updated.add(alias.toLowerCase());
+        this.aliases = Collections.unmodifiableList(updated);
+        if (parent instanceof CommandImpl<S> parentImpl) {
+            parentImpl.indexChildren();
+        }
+        structureChanged();
     }
 
     /**
@@ -268,12 +287,14 @@ final class CommandImpl<S extends Source> implements Command<S> {
      * @param usage the usage {@link CommandUsage} of the command
      */
     @Override
-    public void addUsage(CommandUsage<S> usage) {
+    public synchronized void addUsage(CommandUsage<S> usage) {
         if (usage.isDefault()) {
             return;
         }
 
-        usages.put(usage.getParameters(), usage);
+        UsageMap<S> updated = usages.copy();
+        updated.put(usage.getParameters(), usage);
+        usages = updated;
 
         if (mainUsage == null && usage.getMaxLength() >= 1 && !usage.hasParamType(Command.class)) {
             mainUsage = usage;
@@ -343,8 +364,42 @@ final class CommandImpl<S extends Source> implements Command<S> {
         this.parent = parent;
     }
 
-    private void registerSubCommand(Command<S> command) {
-        children.put(command.name(), command);
+    private synchronized void registerSubCommand(Command<S> command) {
+        Map<String, Command<S>> updated = new TreeMap<>(children);
+        updated.put(command.name(), command);
+        children = Collections.unmodifiableMap(updated);
+        indexChildren();
+    }
+
+    private synchronized void indexChildren() {
+        Map<String, Command<S>> index = new HashMap<>();
+        for (Command<S> child : children.values()) {
+            index.putIfAbsent(child.name().toLowerCase(), child);
+        }
+        for (Command<S> child : children.values()) {
+            for (String alias : child.aliases()) {
+                index.putIfAbsent(alias, child);
+            }
+        }
+        childrenByAlias = Map.copyOf(index);
+    }
+
+    /**
+     * @param listener called whenever the aliases or sub-commands of this command,
+     *                 or of its sub-commands, change, null for none
+     */
+    void setStructureListener(@Nullable Runnable listener) {
+        this.structureListener = listener;
+    }
+
+    private void structureChanged() {
+        Command<S> root = this;
+        while (root.parent() != null) {
+            root = root.parent();
+        }
+        if (root instanceof CommandImpl<S> rootImpl && rootImpl.structureListener != null) {
+            rootImpl.structureListener.run();
+        }
     }
 
     /**
@@ -355,10 +410,12 @@ final class CommandImpl<S extends Source> implements Command<S> {
      *                       the main/default usage of the command directly or not
      */
     @Override
-    public void addSubCommand(Command<S> command, boolean attachDirectly) {
+    public synchronized void addSubCommand(Command<S> command, boolean attachDirectly) {
         command.parent(this);
         registerSubCommand(command);
 
+        structureChanged();
+
         final CommandUsage<S> prime = attachDirectly ? getDefaultUsage() : mainUsage();
 
         CommandUsage<S> combo = prime.mergeWithCommand(command, command.mainUsage());
@@ -431,16 +488,7 @@ final class CommandImpl<S extends Source> implements Command<S> {
      */
     @Override
     public @Nullable Command<S> getSubCommand(String name) {
-        Command<S> sub = children.get(name);
-        if (sub != null)
-            return sub;
-
-        for (String subsNames : children.keySet()) {
-            Command<S> other = children.get(subsNames);
-            if (other.hasName(name)) return other;
-            else if (subsNames.startsWith(name)) return other;
-        }
-        return null;
+        return childrenByAlias.get(name.toLowerCase());
     }
 
     /**
@@ -0,0 +1,194 @@
+package dev.velix.imperat.command;
+
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * An immutable index of the registered commands by their lower-cased aliases and paths,
+ * so that looking any of them up is a single hash probe instead of a walk through
+ * the registered commands and their sub-commands.
+ * <p>
+ * It's updated by {@link BaseImperat} whenever a command is (un)registered, or a registered
+ * command gets new aliases or sub-commands, by copying the previous one and replacing
+ * the entries of the changed root commands only.
+ *
+ * @param <S> the source type
+ */
+final class CommandIndex<S extends Source> {
+
+    private static final CommandIndex<?> EMPTY = new CommandIndex<>(Map.of(), Map.of(), Map.of());
+
+    //the aliases of the root commands, their names being the keys of the registry itself
+    private final Map<String, Command<S>> aliases;
+    //every sub-command by its path from the root, e.g. "group member setperm", through names or aliases
+    private final Map<String, Command<S>> paths;
+    //the entries of each root by its lower-cased name, to replace them when the root changes
+    private final Map<String, RootEntries<S>> roots;
+
+    private CommandIndex(
+        Map<String, Command<S>> aliases,
+        Map<String, Command<S>> paths,
+        Map<String, RootEntries<S>> roots
+    ) {
+        this.aliases = aliases;
+        this.paths = paths;
+        this.roots = roots;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S extends Source> CommandIndex<S> empty() {
+        return (CommandIndex<S>) EMPTY;
+    }
+
+    /**
+     * Creates a new index out of this one, re-indexing the given root commands only,
+     * the entries of any other root command are kept as they are.
+     *
+     * @param commands the registered root commands by their lower-cased names
+     * @param changed  the lower-cased names of the root commands that were (un)registered or changed
+     * @return the updated index
+     */
+    CommandIndex<S> update(Map<String, Command<S>> commands, Collection<String> changed) {
+        Map<String, Command<S>> aliases = new HashMap<>(this.aliases);
+        Map<String, Command<S>> paths = new HashMap<>(this.paths);
+        Map<String, RootEntries<S>> roots = new HashMap<>(this.roots);
+
+        //the keys of the previous entries, taken back by other roots if the changed ones don't have them anymore
+        Set<String> droppedAliases = new HashSet<>();
+        Set<String> droppedPaths = new HashSet<>();
+        for (String name : changed) {
+            RootEntries<S> previous = roots.remove(name);
+            if (previous == null) continue;
+            for (String alias : previous.aliases) {
+                if (aliases.remove(alias, previous.root)) droppedAliases.add(alias);
+            }
+            for (var entry : previous.paths.entrySet()) {
+                if (paths.remove(entry.getKey(), entry.getValue())) droppedPaths.add(entry.getKey());
+            }
+        }
+
+        for (String name : changed) {
+            Command<S> root = commands.get(name);
+            if (root == null) continue;
+            RootEntries<S> entries = RootEntries.of(root);
+            roots.put(name, entries);
+            for (String alias : entries.aliases) {
+                aliases.putIfAbsent(alias, root);
+            }
+            for (var entry : entries.paths.entrySet()) {
+                paths.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+
+        droppedAliases.removeIf(aliases::containsKey);
+        droppedPaths.removeIf(paths::containsKey);
+        if (!droppedAliases.isEmpty() || !droppedPaths.isEmpty()) {
+            for (RootEntries<S> other : roots.values()) {
+                for (String alias : other.aliases) {
+                    if (droppedAliases.contains(alias)) aliases.putIfAbsent(alias, other.root);
+                }
+                for (String path : droppedPaths) {
+                    Command<S> command = other.paths.get(path);
+                    if (command != null) paths.putIfAbsent(path, command);
+                }
+            }
+        }
+        return new CommandIndex<>(Map.copyOf(aliases), Map.copyOf(paths), Map.copyOf(roots));
+    }
+
+    /**
+     * What a root command contributes to the index, as of when it was indexed.
+     *
+     * @param root        the root command
+     * @param aliases     its aliases
+     * @param paths       the root and its sub-commands by their paths
+     * @param descendants its sub-commands by their names and aliases, the shallowest first
+     */
+    private record RootEntries<S extends Source>(
+        Command<S> root,
+        List<String> aliases,
+        Map<String, Command<S>> paths,
+        Map<String, Command<S>> descendants
+    ) {
+
+        static <S extends Source> RootEntries<S> of(Command<S> root) {
+            Map<String, Command<S>> paths = new HashMap<>();
+            Map<String, Command<S>> descendants = new HashMap<>();
+            List<String> rootKeys = keysOf(root);
+            for (String key : rootKeys) {
+                paths.putIfAbsent(key, root);
+            }
+            indexChildren(root, rootKeys, paths, descendants);
+            return new RootEntries<>(root, List.copyOf(root.aliases()), Map.copyOf(paths), Map.copyOf(descendants));
+        }
+    }
+
+    private static <S extends Source> void indexChildren(
+        Command<S> root,
+        List<String> rootKeys,
+        Map<String, Command<S>> paths,
+        Map<String, Command<S>> descendants
+    ) {
+        //breadth first, so that a name shared at several depths maps to the shallowest command
+        Deque<Command<S>> commands = new ArrayDeque<>();
+        Deque<List<String>> prefixes = new ArrayDeque<>();
+        commands.add(root);
+        prefixes.add(rootKeys);
+        while (!commands.isEmpty()) {
+            Command<S> command = commands.poll();
+            List<String> prefix = prefixes.poll();
+            for (Command<S> child : command.getSubCommands()) {
+                List<String> childKeys = keysOf(child);
+                List<String> childPaths = new ArrayList<>(prefix.size() * childKeys.size());
+                for (String parentPath : prefix) {
+                    for (String key : childKeys) {
+                        String path = parentPath + ' ' + key;
+                        paths.putIfAbsent(path, child);
+                        childPaths.add(path);
+                    }
+                }
+                for (String key : childKeys) {
+                    descendants.putIfAbsent(key, child);
+                }
+                commands.add(child);
+                prefixes.add(childPaths);
+            }
+        }
+    }
+
+    private static List<String> keysOf(Command<?> command) {
+        List<String> aliases = command.aliases();
+        List<String> keys = new ArrayList<>(aliases.size() + 1);
+        keys.add(command.name().toLowerCase());
+        keys.addAll(aliases);
+        return keys;
+    }
+
+    /**
+     * @param alias the lower-cased alias
+     * @return the root command having this alias
+     */
+    @Nullable Command<S> byAlias(String alias) {
+        return aliases.get(alias);
+    }
+
+    /**
+     * @param path the lower-cased names or aliases of the commands from the root, separated by a single space
+     * @return the command at the end of the path
+     */
+    @Nullable Command<S> byPath(String path) {
+        return paths.get(path);
+    }
+
+    /**
+     * @param root the lower-cased name of the root command
+     * @param name the lower-cased name or alias of the sub-command
+     * @return the shallowest sub-command of the root having this name or alias
+     */
+    @Nullable Command<S> descendant(String root, String name) {
+        RootEntries<S> entries = roots.get(root);
+        return entries == null ? null : entries.descendants.get(name);
+    }
+}
@@ -2,6 +2,8 @@ package dev.velix.imperat.command;
 
 import dev.velix.imperat.Imperat;
 import dev.velix.imperat.command.cooldown.CooldownHandler;
+import dev.velix.imperat.command.cooldown.CooldownStorage;
+import dev.velix.imperat.command.cooldown.DefaultCooldownHandler;
 import dev.velix.imperat.command.cooldown.UsageCooldown;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.ParameterBuilder;
@@ -14,6 +16,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
@@ -126,9 +129,14 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
         }
         //comboParams.addAll(usage.getParameters());
 
-        return CommandUsage.<S>builder()
+        var builder = CommandUsage.<S>builder()
             .coordinator(usage.getCoordinator())
-            .cooldown(usage.getCooldown())
+            .cooldown(usage.getCooldown());
+        //the merged usage shares where the sub-command's usage stores its cooldowns
+        if (usage.getCooldownHandler() instanceof DefaultCooldownHandler<S> handler) {
+            builder.cooldownStorage(handler.getStorage());
+        }
+        return builder
             .parameters(comboParams)
             .execute(usage.getExecution())
             .build(subCommand, usage.isHelp());
@@ -209,6 +217,18 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
      */
     void execute(Imperat<S> imperat, S source, ExecutionContext<S> context);
 
+    /**
+     * Executes the usage's actions like {@link #execute(Imperat, Source, ExecutionContext)},
+     * tracking when they're over, as the {@link CommandCoordinator} may run them later
+     *
+     * @param imperat the api
+     * @param source  the command source/sender
+     * @param context the context of the command
+     * @return a future completed once the execution is over, exceptionally if it failed
+     */
+    @NotNull
+    CompletableFuture<Void> submit(Imperat<S> imperat, S source, ExecutionContext<S> context);
+
     /**
      * @return Whether this usage is a help-subcommand usage
      */
@@ -231,6 +251,7 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
         private String description = "N/A";
         private String permission = null;
         private UsageCooldown cooldown = null;
+        private CooldownStorage cooldownStorage = null;
         private CommandCoordinator<S> commandCoordinator = CommandCoordinator.sync();
 
         Builder() {
@@ -262,6 +283,11 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
             return this;
         }
 
+        public Builder<S> cooldownStorage(@Nullable CooldownStorage cooldownStorage) {
+            this.cooldownStorage = cooldownStorage;
+            return this;
+        }
+
         public Builder<S> description(String description) {
             if (description != null) {
                 this.description = description;
@@ -299,8 +325,14 @@ public sealed interface CommandUsage<S extends Source> extends PermissionHolder,
             impl.permission(permission);
             impl.describe(description);
             impl.setCooldown(cooldown);
+            if (cooldownStorage != null) {
+                impl.setCooldownHandler(new DefaultCooldownHandler<>(impl, cooldownStorage));
+            }
             impl.addParameters(
-                parameters.stream().peek((p) -> p.parent(command)).toList()
+                //a merged usage contains its sub-command, which mustn't become its own parent
+                parameters.stream().peek((p) -> {
+                    if (p != command) p.parent(command);
+                }).toList()
             );
             return impl;
         }
@@ -8,24 +8,27 @@ import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.context.ExecutionContext;
 import dev.velix.imperat.context.FlagData;
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.Patterns;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
-import static dev.velix.imperat.util.Patterns.DOUBLE_FLAG;
-import static dev.velix.imperat.util.Patterns.SINGLE_FLAG;
-
 @ApiStatus.Internal
 final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
 
     private final List<CommandParameter<S>> parameters = new ArrayList<>();
     private final List<CommandParameter<S>> parametersWithoutFlags = new ArrayList<>();
+    //lower-cased names and aliases of the flags, the first flag declaring an alias wins
+    private final Map<String, FlagData<S>> flagsByAlias = new HashMap<>();
     private final @NotNull CommandExecution<S> execution;
     private final boolean help;
     private String permission = null;
@@ -96,25 +99,23 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
      * @return the flag from the raw input, null if it cannot be a flag
      */
     @Override
-    public @Nullable FlagData getFlagFromRaw(String rawInput) {
-        boolean isSingle = SINGLE_FLAG.matcher(rawInput).matches();
-        boolean isDouble = DOUBLE_FLAG.matcher(rawInput).matches();
-
-        if (!isSingle && !isDouble) {
+    public @Nullable FlagData<S> getFlagFromRaw(String rawInput) {
+        if (flagsByAlias.isEmpty()) {
             return null;
         }
-
-        String inputFlagAlias = rawInput.substring(isSingle ? 1 : 2);
-
-        for (var param : parameters) {
-            if (!param.isFlag()) continue;
-            FlagData flag = param.asFlagParameter().flagData();
-            if (flag.acceptsInput(inputFlagAlias)) {
-                return flag;
-            }
+        int prefixLength = Patterns.flagPrefixLength(rawInput);
+        if (prefixLength == 0) {
+            return null;
         }
+        return flagsByAlias.get(rawInput.substring(prefixLength).toLowerCase());
+    }
 
-        return null;
+    private void indexFlag(CommandParameter<S> param) {
+        FlagData<S> flag = param.asFlagParameter().flagData();
+        flagsByAlias.putIfAbsent(flag.name().toLowerCase(), flag);
+        for (String alias : flag.aliases()) {
+            flagsByAlias.putIfAbsent(alias.toLowerCase(), flag);
+        }
     }
 
 
@@ -128,7 +129,10 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
     public final void addParameters(CommandParameter<S>... params) {
         Collections.addAll(parameters, params);
         for (var param : params) {
-            if (param.isFlag()) continue;
+            if (param.isFlag()) {
+                indexFlag(param);
+                continue;
+            }
             parametersWithoutFlags.add(param);
         }
     }
@@ -142,7 +146,10 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
     public void addParameters(List<CommandParameter<S>> params) {
         for (var p : params) {
             parameters.add(p);
-            if (p.isFlag()) continue;
+            if (p.isFlag()) {
+                indexFlag(p);
+                continue;
+            }
             parametersWithoutFlags.add(p);
         }
     }
@@ -306,6 +313,11 @@ final class CommandUsageImpl<S extends Source> implements CommandUsage<S> {
         commandCoordinator.coordinate(imperat, source, context, this.execution);
     }
 
+    @Override
+    public @NotNull CompletableFuture<Void> submit(Imperat<S> imperat, S source, ExecutionContext<S> context) {
+        return commandCoordinator.submit(imperat, source, context, this.execution);
+    }
+
     @Override
     public boolean isHelp() {
         return help;
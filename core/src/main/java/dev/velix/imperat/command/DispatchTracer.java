@@ -0,0 +1,202 @@
+package dev.velix.imperat.command;
+
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.ResolvedContext;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.ImperatDebugger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Observes the phases of every dispatch of an {@link dev.velix.imperat.Imperat},
+ * for investigating how commands are parsed and executed, or for measuring them.
+ * <p>
+ * Each callback receives the time the phase took, in nanoseconds, and is called on
+ * the dispatching thread, so it should return quickly. None is set by default,
+ * in which case dispatching doesn't read the clock nor build anything for tracing.
+ *
+ * @param <S> the source type
+ * @see dev.velix.imperat.Imperat#setDispatchTracer(DispatchTracer)
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public interface DispatchTracer<S extends Source> {
+
+    /**
+     * A tracer logging every phase through {@link ImperatDebugger},
+     * including the path taken through the command tree.
+     *
+     * @param <S> the source type
+     * @return the logging tracer
+     */
+    static <S extends Source> DispatchTracer<S> logging() {
+        return new DispatchTracer<>() {
+            @Override
+            public void onTokenize(S source, Command<S> command, ArgumentQueue arguments, long nanos) {
+                ImperatDebugger.debug("[%s] tokenized %s in %dns", command.name(), arguments, nanos);
+            }
+
+            @Override
+            public void onTreeMatch(Context<S> context, CommandDispatch<S> dispatch, long nanos) {
+                StringBuilder path = new StringBuilder();
+                for (var parameter : dispatch) {
+                    path.append(parameter.format()).append(" -> ");
+                }
+                ImperatDebugger.debug("[%s] matched %s (%s) in %dns", context.command().name(), dispatch.result(), path, nanos);
+            }
+
+            @Override
+            public void onPreProcess(Context<S> context, CommandUsage<S> usage, long nanos) {
+                ImperatDebugger.debug("[%s] pre-processed in %dns", context.command().name(), nanos);
+            }
+
+            @Override
+            public void onResolve(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+                ImperatDebugger.debug("[%s] resolved in %dns", context.command().name(), nanos);
+            }
+
+            @Override
+            public void onExecute(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+                ImperatDebugger.debug("[%s] executed in %dns", context.command().name(), nanos);
+            }
+
+            @Override
+            public void onDispatched(Context<S> context, CommandDispatch.Result result, long nanos) {
+                ImperatDebugger.debug("[%s] dispatched as %s in %dns", context.command().name(), result, nanos);
+            }
+
+            @Override
+            public void onFailure(Context<S> context, Throwable error) {
+                ImperatDebugger.debug("[%s] failed with %s", context.command().name(), error);
+            }
+        };
+    }
+
+    /**
+     * @param tracers the tracers to call, in order
+     * @param <S>     the source type
+     * @return a tracer calling all the given ones
+     */
+    @SafeVarargs
+    static <S extends Source> DispatchTracer<S> compose(@NotNull DispatchTracer<S>... tracers) {
+        final List<DispatchTracer<S>> copy = new ArrayList<>(tracers.length);
+        for (DispatchTracer<S> tracer : tracers) {
+            copy.add(Objects.requireNonNull(tracer, "tracer"));
+        }
+        final List<DispatchTracer<S>> all = Collections.unmodifiableList(copy);
+        return new DispatchTracer<>() {
+            @Override
+            public void onTokenize(S source, Command<S> command, ArgumentQueue arguments, long nanos) {
+                for (var tracer : all) tracer.onTokenize(source, command, arguments, nanos);
+            }
+
+            @Override
+            public void onTreeMatch(Context<S> context, CommandDispatch<S> dispatch, long nanos) {
+                for (var tracer : all) tracer.onTreeMatch(context, dispatch, nanos);
+            }
+
+            @Override
+            public void onPreProcess(Context<S> context, CommandUsage<S> usage, long nanos) {
+                for (var tracer : all) tracer.onPreProcess(context, usage, nanos);
+            }
+
+            @Override
+            public void onResolve(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+                for (var tracer : all) tracer.onResolve(context, usage, nanos);
+            }
+
+            @Override
+            public void onExecute(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+                for (var tracer : all) tracer.onExecute(context, usage, nanos);
+            }
+
+            @Override
+            public void onDispatched(Context<S> context, CommandDispatch.Result result, long nanos) {
+                for (var tracer : all) tracer.onDispatched(context, result, nanos);
+            }
+
+            @Override
+            public void onFailure(Context<S> context, Throwable error) {
+                for (var tracer : all) tracer.onFailure(context, error);
+            }
+        };
+    }
+
+    /**
+     * Called once the raw input of a command line has been split into arguments.
+     *
+     * @param source    the source dispatching
+     * @param command   the command dispatched
+     * @param arguments the arguments
+     * @param nanos     the time it took
+     */
+    default void onTokenize(S source, Command<S> command, ArgumentQueue arguments, long nanos) {
+    }
+
+    /**
+     * Called once the arguments have been matched against the command tree.
+     *
+     * @param context  the context of the dispatch
+     * @param dispatch the result of the matching, with the path taken through the tree
+     * @param nanos    the time it took
+     */
+    default void onTreeMatch(Context<S> context, CommandDispatch<S> dispatch, long nanos) {
+    }
+
+    /**
+     * Called once the pre-processors of the usage to execute have run.
+     *
+     * @param context the context of the dispatch
+     * @param usage   the usage to execute
+     * @param nanos   the time it took
+     */
+    default void onPreProcess(Context<S> context, CommandUsage<S> usage, long nanos) {
+    }
+
+    /**
+     * Called once the arguments have been resolved into values.
+     *
+     * @param context the resolved context
+     * @param usage   the usage to execute
+     * @param nanos   the time it took
+     */
+    default void onResolve(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+    }
+
+    /**
+     * Called once the post-processors and the execution of the usage have run.
+     * Executions run later by their {@link CommandCoordinator} are reported once they're over,
+     * so possibly after {@link #onDispatched}, from the thread that ran them.
+     *
+     * @param context the resolved context
+     * @param usage   the usage executed
+     * @param nanos   the time it took
+     */
+    default void onExecute(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+    }
+
+    /**
+     * Called once a dispatch is over without failing.
+     *
+     * @param context the context of the dispatch
+     * @param result  the result of the dispatch
+     * @param nanos   the time the whole dispatch took, tokenizing excluded
+     */
+    default void onDispatched(Context<S> context, CommandDispatch.Result result, long nanos) {
+    }
+
+    /**
+     * Called when a dispatch fails, before the error is handled.
+     *
+     * @param context the context of the dispatch
+     * @param error   the error
+     */
+    default void onFailure(Context<S> context, Throwable error) {
+    }
+}
@@ -0,0 +1,35 @@
+package dev.velix.imperat.command;
+
+import dev.velix.imperat.verification.UsageVerification;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long registering a command took, and how its usages were verified.
+ *
+ * @param command      the name of the command
+ * @param verification the verification of the usages of the command
+ * @param compileNanos the time compiling the tree of the command took
+ * @param totalNanos   the time the whole registration took
+ * @see dev.velix.imperat.Imperat#getRegistrationReports()
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public record RegistrationReport(
+    String command,
+    UsageVerification verification,
+    long compileNanos,
+    long totalNanos
+) {
+
+    public String format() {
+        return "/%s: %d usages in %d buckets (largest %d), %d comparisons, verified in %.2fms, compiled in %.2fms, registered in %.2fms".formatted(
+            command, verification.usages(), verification.buckets(), verification.largestBucket(), verification.comparisons(),
+            toMillis(verification.nanos()), toMillis(compileNanos), toMillis(totalNanos)
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
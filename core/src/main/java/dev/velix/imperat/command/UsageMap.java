@@ -6,6 +6,14 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 
+/**
+ * The usages of a command by their parameters, iterated in the order they were added.
+ * <p>
+ * Commands never modify the map they publish, they add usages to a {@link #copy()} of it
+ * which then replaces it, so that the map can be read by dispatching threads without locking.
+ *
+ * @param <S> the source type
+ */
 final class UsageMap<S extends Source> extends HashMap<List<CommandParameter<S>>, CommandUsage<S>> implements Iterable<CommandUsage<S>> {
 
     private final LinkedHashSet<CommandUsage<S>> sort = new LinkedHashSet<>();
@@ -14,6 +22,15 @@ final class UsageMap<S extends Source> extends HashMap<List<CommandParameter<S>>
         super();
     }
 
+    private UsageMap(UsageMap<S> other) {
+        super(other);
+        this.sort.addAll(other.sort);
+    }
+
+    UsageMap<S> copy() {
+        return new UsageMap<>(this);
+    }
+
     @Override
     public CommandUsage<S> put(List<CommandParameter<S>> key, CommandUsage<S> value) {
         sort.add(value);
@@ -21,7 +38,7 @@ final class UsageMap<S extends Source> extends HashMap<List<CommandParameter<S>>
     }
 
     public Set<CommandUsage<S>> asSortedSet() {
-        return sort;
+        return Collections.unmodifiableSet(sort);
     }
 
     @Override
@@ -24,6 +24,22 @@ public interface CooldownHandler<S extends Source> {
      */
     void registerExecutionMoment(S source);
 
+    /**
+     * Checks if there's a cooldown on the usage for the source,
+     * and if there's none, registers the execution moment.
+     * Implementations shared between threads should do it atomically.
+     *
+     * @param source the command sender executing the {@link CommandUsage}
+     * @return false if the source is still on cooldown, otherwise true
+     */
+    default boolean tryRegisterExecution(S source) {
+        if (hasCooldown(source)) {
+            return false;
+        }
+        registerExecutionMoment(source);
+        return true;
+    }
+
     /**
      * The required of a usage
      *
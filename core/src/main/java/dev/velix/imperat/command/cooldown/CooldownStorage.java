@@ -0,0 +1,77 @@
+package dev.velix.imperat.command.cooldown;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * The storage of the last execution moments of a usage, beneath its {@link CooldownHandler}.
+ * Timestamps are in milliseconds as given by {@link System#currentTimeMillis()},
+ * and sources are identified by their {@link dev.velix.imperat.context.Source#uuid()}.
+ * <p>
+ * Implementations are called from the dispatching threads, so they must be
+ * thread-safe and must never block on I/O inside any of these methods.
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public interface CooldownStorage {
+
+    /**
+     * The value returned by {@link #getLastExecution(UUID)}
+     * when the source has no recorded execution
+     */
+    long NONE = -1L;
+
+    /**
+     * @return a new storage keeping everything in memory
+     */
+    static CooldownStorage inMemory() {
+        return new InMemoryCooldownStorage();
+    }
+
+    /**
+     * @param file the file to persist the execution moments into
+     * @return a new storage persisting the execution moments into the file in batches
+     * @see FileCooldownStorage
+     */
+    static FileCooldownStorage file(Path file) {
+        return FileCooldownStorage.open(file);
+    }
+
+    /**
+     * @param source the unique id of the source
+     * @return the last execution moment of the source, or {@link #NONE}
+     */
+    long getLastExecution(UUID source);
+
+    /**
+     * @param source the unique id of the source
+     * @param time   the execution moment
+     */
+    void setLastExecution(UUID source, long time);
+
+    /**
+     * Atomically checks that the source has no execution within the cooldown
+     * before the given moment, and if so records the moment as its last execution.
+     *
+     * @param source   the unique id of the source
+     * @param now      the execution moment
+     * @param cooldown the cooldown in milliseconds
+     * @return false if the source is still on cooldown, otherwise true
+     */
+    boolean tryRegister(UUID source, long now, long cooldown);
+
+    /**
+     * @param source the unique id of the source
+     */
+    void remove(UUID source);
+
+    /**
+     * Drops every execution moment older than the cooldown.
+     *
+     * @param now      the current moment
+     * @param cooldown the cooldown in milliseconds
+     */
+    void removeExpired(long now, long cooldown);
+
+}
@@ -3,17 +3,41 @@ package dev.velix.imperat.command.cooldown;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.context.Source;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * The default {@link CooldownHandler}, it keeps the last execution moments
+ * in a {@link CooldownStorage} keyed by {@link Source#uuid()}, in memory unless
+ * another storage is given, so entries are matched across the source wrappers
+ * created per command.
+ * <p>
+ * Expired entries are swept lazily while registering executions,
+ * at most once per cooldown period, to keep the memory bounded
+ * by the sources that executed the usage within its cooldown.
+ *
+ * @param <S> the sender-valueType
+ */
 public final class DefaultCooldownHandler<S extends Source> implements CooldownHandler<S> {
 
-    private final Map<S, Long> lastTimeExecuted = new HashMap<>();
+    private final CooldownStorage storage;
+    private final AtomicLong lastSweep = new AtomicLong(System.currentTimeMillis());
     private final CommandUsage<S> usage;
 
     public DefaultCooldownHandler(CommandUsage<S> usage) {
+        this(usage, CooldownStorage.inMemory());
+    }
+
+    public DefaultCooldownHandler(CommandUsage<S> usage, CooldownStorage storage) {
         this.usage = usage;
+        this.storage = storage;
+    }
+
+    /**
+     * @return the storage of the execution moments
+     */
+    public CooldownStorage getStorage() {
+        return storage;
     }
 
 
@@ -25,7 +49,44 @@ public final class DefaultCooldownHandler<S extends Source> implements CooldownH
      */
     @Override
     public void registerExecutionMoment(S source) {
-        lastTimeExecuted.put(source, System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        storage.setLastExecution(source.uuid(), now);
+        sweepIfDue(now);
+    }
+
+    /**
+     * Checks for a cooldown and registers the execution moment
+     * in a single atomic step, so that concurrent executions by
+     * the same source can't both pass the check.
+     *
+     * @param source the command sender executing the {@link CommandUsage}
+     * @return false if the source is still on cooldown, otherwise true
+     */
+    @Override
+    public boolean tryRegisterExecution(S source) {
+        UsageCooldown usageCooldown = usage.getCooldown();
+        if (usageCooldown == null) {
+            return true;
+        }
+        final long now = System.currentTimeMillis();
+        if (!storage.tryRegister(source.uuid(), now, usageCooldown.toMillis())) {
+            return false;
+        }
+        sweepIfDue(now);
+        return true;
+    }
+
+    private void sweepIfDue(long now) {
+        UsageCooldown usageCooldown = usage.getCooldown();
+        if (usageCooldown == null) {
+            return;
+        }
+        final long cooldown = usageCooldown.toMillis();
+        long last = lastSweep.get();
+        if (now - last < cooldown || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        storage.removeExpired(now, cooldown);
     }
 
     /**
@@ -46,7 +107,7 @@ public final class DefaultCooldownHandler<S extends Source> implements CooldownH
      */
     @Override
     public void removeCooldown(S source) {
-        lastTimeExecuted.remove(source);
+        storage.remove(source.uuid());
     }
 
     /**
@@ -58,6 +119,7 @@ public final class DefaultCooldownHandler<S extends Source> implements CooldownH
      */
     @Override
     public Optional<Long> getLastTimeExecuted(S source) {
-        return Optional.ofNullable(lastTimeExecuted.get(source));
+        long time = storage.getLastExecution(source.uuid());
+        return time == CooldownStorage.NONE ? Optional.empty() : Optional.of(time);
     }
 }
@@ -0,0 +1,221 @@
+package dev.velix.imperat.command.cooldown;
+
+import dev.velix.imperat.util.ImperatDebugger;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link CooldownStorage} persisting the execution moments into a compact
+ * binary snapshot, so that long cooldowns survive restarts.
+ * <p>
+ * Lookups and updates are served from memory, the file is read once in the
+ * background when the storage is opened, and written back in batches on the
+ * storage's executor, only when something changed since the last write.
+ * Dispatching threads never touch nor wait for the file: until the initial load
+ * completes, sources are only on cooldown for the executions recorded since opening,
+ * the loaded moments are then merged in, the latest moment of a source winning.
+ * <p>
+ * {@link #close()} writes the pending changes, it should be called
+ * when the platform shuts down.
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class FileCooldownStorage implements CooldownStorage, AutoCloseable {
+
+    private static final int MAGIC = 0x494D4344; // "IMCD"
+    private static final int VERSION = 1;
+
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(5);
+
+    private final Path file;
+    private final InMemoryCooldownStorage memory = new InMemoryCooldownStorage();
+    private final CompletableFuture<Void> loading;
+    private final ScheduledFuture<?> flushTask;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private FileCooldownStorage(Path file, ScheduledExecutorService executor, Duration flushInterval) {
+        this.file = file;
+        this.loading = CompletableFuture.runAsync(this::load, executor);
+        long interval = flushInterval.toMillis();
+        this.flushTask = executor.scheduleWithFixedDelay(this::flushIfDirty, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a storage writing every 5 seconds on a shared daemon thread.
+     *
+     * @param file the file to persist the execution moments into
+     * @return the storage
+     */
+    public static FileCooldownStorage open(@NotNull Path file) {
+        return open(file, SharedExecutor.INSTANCE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * @param file          the file to persist the execution moments into
+     * @param executor      the executor doing all the I/O
+     * @param flushInterval the delay between two writes of the pending changes
+     * @return the storage
+     */
+    public static FileCooldownStorage open(
+        @NotNull Path file,
+        @NotNull ScheduledExecutorService executor,
+        @NotNull Duration flushInterval
+    ) {
+        if (flushInterval.isZero() || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("Flush interval must be positive, got " + flushInterval);
+        }
+        return new FileCooldownStorage(file, executor, flushInterval);
+    }
+
+    @Override
+    public long getLastExecution(UUID source) {
+        return memory.getLastExecution(source);
+    }
+
+    @Override
+    public void setLastExecution(UUID source, long time) {
+        memory.setLastExecution(source, time);
+        dirty.set(true);
+    }
+
+    @Override
+    public boolean tryRegister(UUID source, long now, long cooldown) {
+        boolean registered = memory.tryRegister(source, now, cooldown);
+        if (registered) {
+            dirty.set(true);
+        }
+        return registered;
+    }
+
+    @Override
+    public void remove(UUID source) {
+        if (memory.delete(source)) {
+            dirty.set(true);
+        }
+    }
+
+    @Override
+    public void removeExpired(long now, long cooldown) {
+        if (memory.purge(now, cooldown) > 0) {
+            dirty.set(true);
+        }
+    }
+
+    private void load() {
+        try {
+            if (!Files.exists(file) || Files.size(file) == 0) {
+                return;
+            }
+        } catch (IOException ex) {
+            ImperatDebugger.error(FileCooldownStorage.class, "load", ex);
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                ImperatDebugger.warning("Ignoring cooldowns file '%s', it's not a cooldowns snapshot", file);
+                return;
+            }
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                UUID source = new UUID(in.readLong(), in.readLong());
+                memory.merge(source, in.readLong());
+            }
+        } catch (IOException ex) {
+            ImperatDebugger.error(FileCooldownStorage.class, "load", ex);
+        }
+    }
+
+    private void flushIfDirty() {
+        //writing before the load completes would drop the entries not loaded yet
+        if (loading.isDone() && dirty.compareAndSet(true, false)) {
+            try {
+                write();
+            } catch (IOException ex) {
+                dirty.set(true);
+                ImperatDebugger.error(FileCooldownStorage.class, "flush", ex);
+            }
+        }
+    }
+
+    private synchronized void write() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        //the entries may change while writing, so they're counted as written
+        int[] written = {0};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(12 + memory.size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            memory.forEach((source, time) -> {
+                try {
+                    out.writeLong(source.getMostSignificantBits());
+                    out.writeLong(source.getLeastSignificantBits());
+                    out.writeLong(time);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                written[0]++;
+            });
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(written[0]);
+            bytes.writeTo(out);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @return a future completed once the persisted execution moments are merged into memory
+     */
+    public CompletableFuture<Void> loaded() {
+        return loading.copy();
+    }
+
+    /**
+     * Writes the pending changes right away, on the calling thread.
+     *
+     * @throws IOException if the file couldn't be written
+     */
+    public void flush() throws IOException {
+        loading.join();
+        dirty.set(false);
+        write();
+    }
+
+    /**
+     * Stops the periodic writes, then writes the pending changes on the calling thread.
+     *
+     * @throws IOException if the file couldn't be written
+     */
+    @Override
+    public void close() throws IOException {
+        flushTask.cancel(false);
+        if (dirty.get()) {
+            flush();
+        }
+    }
+
+    private static final class SharedExecutor {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "imperat-cooldown-storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+}
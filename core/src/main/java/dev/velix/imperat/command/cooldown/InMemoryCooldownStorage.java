@@ -0,0 +1,142 @@
+package dev.velix.imperat.command.cooldown;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjLongConsumer;
+
+@ApiStatus.Internal
+final class InMemoryCooldownStorage implements CooldownStorage {
+
+    //set into a slot being removed, so that it's never updated again
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    //one slot per source, updated in place so that registering an execution doesn't box its moment
+    private final Map<UUID, AtomicLong> lastExecutions = new ConcurrentHashMap<>();
+
+    @Override
+    public long getLastExecution(UUID source) {
+        AtomicLong slot = lastExecutions.get(source);
+        if (slot == null) {
+            return NONE;
+        }
+        long time = slot.get();
+        return time == REMOVED ? NONE : time;
+    }
+
+    @Override
+    public void setLastExecution(UUID source, long time) {
+        while (true) {
+            AtomicLong slot = lastExecutions.get(source);
+            if (slot == null) {
+                if (lastExecutions.putIfAbsent(source, new AtomicLong(time)) == null) return;
+                continue;
+            }
+            long previous = slot.get();
+            if (previous == REMOVED) {
+                lastExecutions.remove(source, slot);
+            } else if (slot.compareAndSet(previous, time)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean tryRegister(UUID source, long now, long cooldown) {
+        while (true) {
+            AtomicLong slot = lastExecutions.get(source);
+            if (slot == null) {
+                if (lastExecutions.putIfAbsent(source, new AtomicLong(now)) == null) return true;
+                continue;
+            }
+            long previous = slot.get();
+            if (previous == REMOVED) {
+                lastExecutions.remove(source, slot);
+            } else if (now - previous <= cooldown) {
+                return false;
+            } else if (slot.compareAndSet(previous, now)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void remove(UUID source) {
+        delete(source);
+    }
+
+    @Override
+    public void removeExpired(long now, long cooldown) {
+        purge(now, cooldown);
+    }
+
+    /**
+     * @param source the unique id of the source
+     * @return whether the source had an execution moment
+     */
+    boolean delete(UUID source) {
+        AtomicLong slot = lastExecutions.get(source);
+        if (slot != null && slot.getAndSet(REMOVED) != REMOVED) {
+            lastExecutions.remove(source, slot);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Drops every execution moment older than the cooldown.
+     *
+     * @return the number of dropped execution moments
+     */
+    int purge(long now, long cooldown) {
+        int removed = 0;
+        //a slot is only removed if it's still expired, slots refreshed meanwhile are kept
+        for (Map.Entry<UUID, AtomicLong> entry : lastExecutions.entrySet()) {
+            AtomicLong slot = entry.getValue();
+            long time = slot.get();
+            if (time != REMOVED && now - time > cooldown && slot.compareAndSet(time, REMOVED)) {
+                lastExecutions.remove(entry.getKey(), slot);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Records the execution moment unless the source has a later one.
+     *
+     * @param source the unique id of the source
+     * @param time   the execution moment
+     */
+    void merge(UUID source, long time) {
+        while (true) {
+            AtomicLong slot = lastExecutions.get(source);
+            if (slot == null) {
+                if (lastExecutions.putIfAbsent(source, new AtomicLong(time)) == null) return;
+                continue;
+            }
+            long previous = slot.get();
+            if (previous == REMOVED) {
+                lastExecutions.remove(source, slot);
+            } else if (previous >= time || slot.compareAndSet(previous, time)) {
+                return;
+            }
+        }
+    }
+
+    int size() {
+        return lastExecutions.size();
+    }
+
+    void forEach(ObjLongConsumer<UUID> consumer) {
+        lastExecutions.forEach((source, slot) -> {
+            long time = slot.get();
+            if (time != REMOVED) {
+                consumer.accept(source, time);
+            }
+        });
+    }
+}
@@ -0,0 +1,295 @@
+package dev.velix.imperat.command.metrics;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.DispatchTracer;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.ResolvedContext;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records, per command and per usage, how many times they're dispatched, how the dispatches end,
+ * which exceptions get handled and how long the matching, resolving and executing take.
+ * <p>
+ * It's fed as a {@link DispatchTracer} by the {@link dev.velix.imperat.Imperat} it's set on,
+ * see {@link dev.velix.imperat.Imperat#setMetrics(CommandMetrics)}, every counter being lock-free,
+ * and can be read at any time through {@link #snapshot()} or the {@link #dumpCommand(String)}.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class CommandMetrics<S extends Source> implements DispatchTracer<S> {
+
+    private static final CommandDispatch.Result[] RESULTS = CommandDispatch.Result.values();
+
+    private final Map<String, CommandStats> commands = new ConcurrentHashMap<>();
+
+    private CommandMetrics() {
+    }
+
+    public static <S extends Source> CommandMetrics<S> create() {
+        return new CommandMetrics<>();
+    }
+
+    private CommandStats statsOf(Context<S> context) {
+        return commands.computeIfAbsent(context.command().name(), CommandStats::new);
+    }
+
+    @Override
+    public void onTreeMatch(Context<S> context, CommandDispatch<S> dispatch, long nanos) {
+        statsOf(context).match.record(nanos);
+    }
+
+    @Override
+    public void onPreProcess(Context<S> context, CommandUsage<S> usage, long nanos) {
+        statsOf(context).usageStats(context.command(), usage).invocations.increment();
+    }
+
+    @Override
+    public void onResolve(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+        CommandStats stats = statsOf(context);
+        stats.resolve.record(nanos);
+        stats.usageStats(context.command(), usage).resolve.record(nanos);
+    }
+
+    @Override
+    public void onExecute(ResolvedContext<S> context, CommandUsage<S> usage, long nanos) {
+        CommandStats stats = statsOf(context);
+        stats.execute.record(nanos);
+        stats.usageStats(context.command(), usage).execute.record(nanos);
+    }
+
+    @Override
+    public void onDispatched(Context<S> context, CommandDispatch.Result result, long nanos) {
+        CommandStats stats = statsOf(context);
+        stats.invocations.increment();
+        stats.outcomes[result.ordinal()].increment();
+        stats.total.record(nanos);
+    }
+
+    @Override
+    public void onFailure(Context<S> context, Throwable error) {
+        CommandStats stats = statsOf(context);
+        stats.invocations.increment();
+        stats.failures.increment();
+    }
+
+    /**
+     * Records an exception handled for a dispatch of the command,
+     * whether it made the dispatch fail or was thrown by a processor.
+     *
+     * @param context   the context the exception was thrown in
+     * @param throwable the exception
+     */
+    public void recordThrowable(@NotNull Context<S> context, @NotNull Throwable throwable) {
+        statsOf(context).exceptions
+            .computeIfAbsent(throwable.getClass().getName(), (k) -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * Clears all the recorded metrics.
+     */
+    public void reset() {
+        commands.clear();
+    }
+
+    /**
+     * @return a snapshot of the metrics of every dispatched command,
+     * the slowest first according to their 99th percentile of the whole dispatch
+     */
+    public @NotNull List<CommandSnapshot> snapshot() {
+        List<CommandSnapshot> snapshots = new ArrayList<>(commands.size());
+        for (CommandStats stats : commands.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        snapshots.sort(Comparator.comparingLong((CommandSnapshot snapshot) -> snapshot.total().percentileNanos(99)).reversed());
+        return snapshots;
+    }
+
+    /**
+     * @param command the name of the command
+     * @return a snapshot of the metrics of the command, null if it hasn't been dispatched
+     */
+    public @Nullable CommandSnapshot snapshot(@NotNull String command) {
+        CommandStats stats = commands.get(command);
+        return stats == null ? null : stats.snapshot();
+    }
+
+    /**
+     * Creates a command replying with the recorded metrics, to register
+     * (preferably with a permission) on the {@link dev.velix.imperat.Imperat} this is set on.
+     * <p>
+     * Without arguments, it lists every dispatched command, the slowest first,
+     * with the name of a command, it details its usages and handled exceptions.
+     *
+     * @param name the name of the command
+     * @return the command
+     */
+    public @NotNull Command<S> dumpCommand(@NotNull String name) {
+        return Command.<S>create(name)
+            .description("Shows the latency and outcomes of the dispatched commands")
+            .defaultExecution((source, context) -> {
+                List<CommandSnapshot> snapshots = snapshot();
+                if (snapshots.isEmpty()) {
+                    source.reply("No command has been dispatched yet");
+                    return;
+                }
+                for (CommandSnapshot snapshot : snapshots) {
+                    source.reply(snapshot.format());
+                }
+            })
+            .usage(CommandUsage.<S>builder()
+                .parameters(CommandParameter.<S>requiredText("command").build())
+                .execute((source, context) -> {
+                    String command = context.getArgument("command");
+                    CommandSnapshot snapshot = command == null ? null : snapshot(command);
+                    if (snapshot == null) {
+                        source.reply("Command '" + command + "' hasn't been dispatched yet");
+                        return;
+                    }
+                    source.reply(snapshot.format());
+                    source.reply("  match: " + snapshot.match().format());
+                    source.reply("  resolve: " + snapshot.resolve().format());
+                    source.reply("  execute: " + snapshot.execute().format());
+                    for (UsageSnapshot usage : snapshot.usages()) {
+                        source.reply("  " + usage.format());
+                    }
+                    snapshot.exceptions().forEach((type, count) -> source.reply("  " + type + ": " + count));
+                }))
+            .build();
+    }
+
+    private static final class CommandStats {
+
+        private final String name;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder[] outcomes = new LongAdder[RESULTS.length];
+        private final Map<String, LongAdder> exceptions = new ConcurrentHashMap<>();
+        private final Map<CommandUsage<?>, UsageStats> usages = new ConcurrentHashMap<>();
+
+        private final LatencyHistogram match = new LatencyHistogram();
+        private final LatencyHistogram resolve = new LatencyHistogram();
+        private final LatencyHistogram execute = new LatencyHistogram();
+        private final LatencyHistogram total = new LatencyHistogram();
+
+        private CommandStats(String name) {
+            this.name = name;
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = new LongAdder();
+            }
+        }
+
+        private <S extends Source> UsageStats usageStats(Command<S> command, CommandUsage<S> usage) {
+            UsageStats stats = usages.get(usage);
+            if (stats != null) {
+                return stats;
+            }
+            //formatted once, the first time the usage is executed
+            return usages.computeIfAbsent(usage, (k) -> new UsageStats(CommandUsage.format(command, usage)));
+        }
+
+        private CommandSnapshot snapshot() {
+            Map<CommandDispatch.Result, Long> outcomeCounts = new EnumMap<>(CommandDispatch.Result.class);
+            for (CommandDispatch.Result result : RESULTS) {
+                long count = outcomes[result.ordinal()].sum();
+                if (count > 0) {
+                    outcomeCounts.put(result, count);
+                }
+            }
+            Map<String, Long> exceptionCounts = new TreeMap<>();
+            exceptions.forEach((type, count) -> exceptionCounts.put(type, count.sum()));
+
+            List<UsageSnapshot> usageSnapshots = new ArrayList<>(usages.size());
+            for (UsageStats usage : usages.values()) {
+                usageSnapshots.add(new UsageSnapshot(
+                    usage.format, usage.invocations.sum(),
+                    usage.resolve.snapshot(), usage.execute.snapshot()
+                ));
+            }
+            usageSnapshots.sort(Comparator.comparingLong(UsageSnapshot::invocations).reversed());
+
+            return new CommandSnapshot(
+                name, invocations.sum(), failures.sum(),
+                Collections.unmodifiableMap(outcomeCounts),
+                Collections.unmodifiableMap(exceptionCounts),
+                match.snapshot(), resolve.snapshot(), execute.snapshot(), total.snapshot(),
+                Collections.unmodifiableList(usageSnapshots)
+            );
+        }
+    }
+
+    private static final class UsageStats {
+
+        private final String format;
+        private final LongAdder invocations = new LongAdder();
+        private final LatencyHistogram resolve = new LatencyHistogram();
+        private final LatencyHistogram execute = new LatencyHistogram();
+
+        private UsageStats(String format) {
+            this.format = format;
+        }
+    }
+
+    /**
+     * @param command     the name of the command
+     * @param invocations the number of dispatches of the command
+     * @param failures    the number of dispatches that failed with an exception
+     * @param outcomes    the number of dispatches per result, for those that didn't fail
+     * @param exceptions  the number of handled exceptions per exception class
+     * @param match       the latencies of matching the arguments against the command tree
+     * @param resolve     the latencies of resolving the arguments into values
+     * @param execute     the latencies of the post-processing and execution of the usages
+     * @param total       the latencies of the whole dispatches that didn't fail
+     * @param usages      the metrics of the executed usages, the most executed first
+     */
+    public record CommandSnapshot(
+        String command,
+        long invocations,
+        long failures,
+        Map<CommandDispatch.Result, Long> outcomes,
+        Map<String, Long> exceptions,
+        LatencyHistogram.Snapshot match,
+        LatencyHistogram.Snapshot resolve,
+        LatencyHistogram.Snapshot execute,
+        LatencyHistogram.Snapshot total,
+        List<UsageSnapshot> usages
+    ) {
+
+        public String format() {
+            return "/%s: %d dispatches, %d failures, %s (%s)".formatted(
+                command, invocations, failures, outcomes, total.format()
+            );
+        }
+    }
+
+    /**
+     * @param usage       the formatted usage
+     * @param invocations the number of executions of the usage
+     * @param resolve     the latencies of resolving its arguments into values
+     * @param execute     the latencies of its post-processing and execution
+     */
+    public record UsageSnapshot(
+        String usage,
+        long invocations,
+        LatencyHistogram.Snapshot resolve,
+        LatencyHistogram.Snapshot execute
+    ) {
+
+        public String format() {
+            return "%s: %d executions, resolve %s, execute %s".formatted(
+                usage, invocations, resolve.format(), execute.format()
+            );
+        }
+    }
+}
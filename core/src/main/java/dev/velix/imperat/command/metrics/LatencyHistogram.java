@@ -0,0 +1,131 @@
+package dev.velix.imperat.command.metrics;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, counting them into fixed buckets
+ * whose bounds double from one microsecond up to about half an hour.
+ * <p>
+ * Recording is a shift and a few {@link LongAdder} increments, so it can be done
+ * on every dispatch from any thread, the precision of the percentiles
+ * being the width of the bucket they fall in.
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets, the first one counts the latencies under a microsecond,
+     * the bucket {@code i} those under {@code 2^i} microseconds, and the last one all the others.
+     */
+    public static final int BUCKETS = 32;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    static int bucketOf(long nanos) {
+        long micros = nanos / 1000L;
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+    }
+
+    /**
+     * @param bucket the index of the bucket
+     * @return the upper bound of the bucket in nanoseconds, {@link Long#MAX_VALUE} for the last one
+     */
+    public static long upperBoundOf(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) * 1000L;
+    }
+
+    /**
+     * @param nanos the latency to record, in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[bucketOf(nanos)].increment();
+        count.increment();
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * Reads the counters, while they might still be recorded into,
+     * so the snapshot is only consistent once the recording threads are idle.
+     *
+     * @return a snapshot of the histogram
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(count.sum(), total.sum(), max.get(), counts);
+    }
+
+    /**
+     * @param count      the number of latencies recorded
+     * @param totalNanos the sum of the latencies recorded
+     * @param maxNanos   the highest latency recorded
+     * @param buckets    the number of latencies recorded per bucket
+     */
+    public record Snapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+
+        public long meanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         * @return the upper bound of the bucket the percentile falls in, in nanoseconds,
+         * capped by the highest latency recorded
+         */
+        public long percentileNanos(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * Math.min(Math.max(percentile, 0D), 100D) / 100D);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(upperBoundOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * @return the mean, the 99th percentile and the highest latency, in milliseconds
+         */
+        public String format() {
+            return "avg %.2fms, p99 %.2fms, max %.2fms".formatted(
+                toMillis(meanNanos()), toMillis(percentileNanos(99)), toMillis(maxNanos)
+            );
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
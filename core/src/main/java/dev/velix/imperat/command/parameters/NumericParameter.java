@@ -26,4 +26,22 @@ public interface NumericParameter<S extends Source> extends CommandParameter<S>
         return range != null && NumericComparator.of(value).isWithin(value, range);
     }
 
+    /**
+     * @param value the value, widened to a double
+     * @return whether the value is within the range, without boxing it
+     */
+    default boolean matchesRange(double value) {
+        var range = getRange();
+        return range != null && range.matches(value);
+    }
+
+    /**
+     * @param value the integral value
+     * @return whether the value is within the range, compared exactly without boxing it
+     */
+    default boolean matchesRange(long value) {
+        var range = getRange();
+        return range != null && range.matches(value);
+    }
+
 }
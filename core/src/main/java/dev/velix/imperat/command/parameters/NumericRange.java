@@ -25,6 +25,28 @@ public final class NumericRange {
         return value >= min && value <= max;
     }
 
+    /**
+     * Matches an integral value exactly, unlike widening it to a double,
+     * which rounds the values past 2^53.
+     *
+     * @param value the value
+     * @return whether the value is within the range
+     */
+    public boolean matches(long value) {
+        return compare(value, min) >= 0 && compare(value, max) <= 0;
+    }
+
+    private static int compare(long value, double bound) {
+        if (bound >= 0x1p63) return -1;
+        if (bound < -0x1p63) return 1;
+        long truncated = (long) bound;
+        if (value != truncated) {
+            return Long.compare(value, truncated);
+        }
+        double fraction = bound - truncated;
+        return fraction > 0 ? -1 : fraction < 0 ? 1 : 0;
+    }
+
     public double getMin() {
         return min;
     }
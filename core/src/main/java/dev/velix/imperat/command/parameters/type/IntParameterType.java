@@ -0,0 +1,24 @@
+package dev.velix.imperat.command.parameters.type;
+
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.ParsedArguments;
+import dev.velix.imperat.context.Source;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A type of {@link Integer} values parsing them as primitives, so that the arguments
+ * matched against it are kept unboxed by {@link ParsedArguments},
+ * they're only boxed once resolved into the context of the execution.
+ *
+ * @param <S> the command-source valueType
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public interface IntParameterType<S extends Source> extends ParameterType<S, Integer> {
+
+    /**
+     * @param input the input, accepted by {@link #matchesInput(String, CommandParameter)}
+     * @return the int value of the input
+     * @throws NumberFormatException if the input isn't an int
+     */
+    int resolveInt(String input) throws NumberFormatException;
+}
@@ -32,17 +32,33 @@ public final class ParameterBoolean<S extends Source> extends BaseParameterType<
 
     @Override
     public @Nullable Boolean resolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) throws ImperatException {
+        return tryResolve(context, commandInputStream).getOrThrow();
+    }
 
+    @Override
+    public @NotNull ResolveResult<Boolean> tryResolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) {
         var raw = commandInputStream.currentRaw();
         assert raw != null;
+        return parseBoolean(raw);
+    }
+
+    @Override
+    public @NotNull ResolveResult<Boolean> tryParse(String input, CommandParameter<S> parameter) {
+        if (!matchesInput(input, parameter)) {
+            return ResolveResult.failure(new SourceException("Invalid boolean '%s'", input));
+        }
+        return parseBoolean(input);
+    }
+
+    private ResolveResult<Boolean> parseBoolean(String raw) {
         if (raw.equalsIgnoreCase("true") || raw.equalsIgnoreCase("false")) {
-            return Boolean.parseBoolean(raw);
+            return ResolveResult.success(Boolean.parseBoolean(raw));
         }
 
         if (allowVariants) {
-            return VARIANTS.get(raw.toLowerCase());
+            return ResolveResult.success(VARIANTS.get(raw.toLowerCase()));
         } else {
-            throw new SourceException("Invalid boolean '%s'", raw);
+            return ResolveResult.failure(new SourceException("Invalid boolean '%s'", raw));
         }
     }
 
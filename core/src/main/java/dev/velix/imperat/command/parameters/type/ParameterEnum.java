@@ -27,28 +27,37 @@ public final class ParameterEnum<S extends Source> extends BaseParameterType<S,
 
     @Override
     public @NotNull Enum<?> resolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) throws ImperatException {
+        return Objects.requireNonNull(tryResolve(context, commandInputStream).getOrThrow());
+    }
 
+    @Override
+    public @NotNull ResolveResult<Enum<?>> tryResolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) {
         Type enumType = TypeUtility.matches(typeWrap.getType(), Enum.class)
             ? Objects.requireNonNull(commandInputStream.currentParameter()).valueType() : typeWrap.getType();
 
         var raw = commandInputStream.currentRaw();
         try {
             assert raw != null;
-            return Enum.valueOf((Class<? extends Enum>) enumType, raw.toUpperCase());
-        } catch (EnumConstantNotPresentException ex) {
-            throw new SourceException("Invalid " + enumType.getTypeName() + " '" + raw + "'");
+            return ResolveResult.success(Enum.valueOf((Class<? extends Enum>) enumType, raw.toUpperCase()));
+        } catch (IllegalArgumentException | EnumConstantNotPresentException ex) {
+            //valueOf throws an IllegalArgumentException for unknown constants
+            return ResolveResult.failure(new SourceException("Invalid " + enumType.getTypeName() + " '" + raw + "'"));
         }
     }
 
     @Override
     public boolean matchesInput(String input, CommandParameter<S> parameter) {
+        if (!typeWrap.isSubtypeOf(Enum.class)) {
+            return true;
+        }
+        Type enumType = TypeUtility.matches(typeWrap.getType(), Enum.class) ? parameter.valueType() : typeWrap.getType();
+        if (!(enumType instanceof Class<?>)) {
+            return true;
+        }
         try {
-            if (!typeWrap.isSubtypeOf(Enum.class)) {
-                return true;
-            }
-            Enum.valueOf((Class<? extends Enum>) typeWrap.getType(), input);
+            Enum.valueOf((Class<? extends Enum>) enumType, input.toUpperCase());
             return true;
-        } catch (EnumConstantNotPresentException ex) {
+        } catch (IllegalArgumentException | EnumConstantNotPresentException ex) {
             return false;
         }
     }
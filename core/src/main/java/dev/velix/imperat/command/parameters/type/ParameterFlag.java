@@ -47,14 +47,7 @@ public class ParameterFlag<S extends Source> extends BaseParameterType<S, Comman
 
     @Override
     public boolean matchesInput(String input, CommandParameter<S> parameter) {
-        int subStringIndex;
-        if (Patterns.SINGLE_FLAG.matcher(input).matches()) {
-            subStringIndex = 1;
-        } else if (Patterns.DOUBLE_FLAG.matcher(input).matches()) {
-            subStringIndex = 2;
-        } else {
-            subStringIndex = 0;
-        }
+        int subStringIndex = Patterns.flagPrefixLength(input);
         String flagInput = input.substring(subStringIndex);
         return parameter.asFlagParameter().flagData()
             .acceptsInput(flagInput);
@@ -6,6 +6,7 @@ import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.internal.CommandInputStream;
 import dev.velix.imperat.exception.ImperatException;
 import dev.velix.imperat.exception.SourceException;
+import dev.velix.imperat.util.NumberScanner;
 import dev.velix.imperat.util.TypeUtility;
 import dev.velix.imperat.util.TypeWrap;
 import org.jetbrains.annotations.NotNull;
@@ -34,17 +35,36 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
 
     @Override
     public @Nullable N resolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) throws ImperatException {
+        return tryResolve(context, commandInputStream).getOrThrow();
+    }
 
-        String input = commandInputStream.currentRaw();
-        try {
-            return parse(input);
-        } catch (NumberFormatException ex) {
-            throw new SourceException("Invalid " + display() + " format input '%s'", input);
+    @Override
+    public @NotNull ResolveResult<N> tryResolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) {
+        return tryParse(commandInputStream.currentRaw(), commandInputStream.currentParameter());
+    }
+
+    @Override
+    public @NotNull ResolveResult<N> tryParse(String input, CommandParameter<S> parameter) {
+        if (input == null || !accepts(input)) {
+            return ResolveResult.failure(new SourceException("Invalid " + display() + " format input '%s'", input));
         }
+        return ResolveResult.success(parse(input));
     }
 
     @Override
     public boolean matchesInput(String input, CommandParameter<S> parameter) {
+        return accepts(input);
+    }
+
+    /**
+     * Checks whether the input is a valid number of this type, so that {@link #parse(String)}
+     * doesn't throw for it. The built-in types scan it without throwing, others
+     * should override it the same way as invalid input is common.
+     *
+     * @param input the input
+     * @return whether the input can be parsed
+     */
+    protected boolean accepts(String input) {
         try {
             parse(input);
             return true;
@@ -57,7 +77,7 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
 
     public abstract N parse(String input) throws NumberFormatException;
 
-    static class ParameterInt<S extends Source> extends ParameterNumber<S, Integer> {
+    static class ParameterInt<S extends Source> extends ParameterNumber<S, Integer> implements IntParameterType<S> {
 
         protected ParameterInt() {
             super(TypeWrap.of(Integer.class));
@@ -68,13 +88,27 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "integer";
         }
 
+        @Override
+        protected boolean accepts(String input) {
+            return NumberScanner.isInt(input);
+        }
+
         @Override
         public Integer parse(String input) throws NumberFormatException {
-            return Integer.parseInt(input);
+            return resolveInt(input);
+        }
+
+        @Override
+        public int resolveInt(String input) throws NumberFormatException {
+            long value = NumberScanner.scanInt(input);
+            if (value == NumberScanner.INVALID) {
+                throw new NumberFormatException("For input string: \"" + input + "\"");
+            }
+            return (int) value;
         }
     }
 
-    static class ParameterFloat<S extends Source> extends ParameterNumber<S, Float> {
+    static class ParameterFloat<S extends Source> extends ParameterNumber<S, Float> implements FloatParameterType<S> {
 
         protected ParameterFloat() {
             super(TypeWrap.of(Float.class));
@@ -85,13 +119,23 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "float";
         }
 
+        @Override
+        protected boolean accepts(String input) {
+            return NumberScanner.isDecimal(input);
+        }
+
         @Override
         public Float parse(String input) throws NumberFormatException {
+            return resolveFloat(input);
+        }
+
+        @Override
+        public float resolveFloat(String input) throws NumberFormatException {
             return Float.parseFloat(input);
         }
     }
 
-    static class ParameterLong<S extends Source> extends ParameterNumber<S, Long> {
+    static class ParameterLong<S extends Source> extends ParameterNumber<S, Long> implements LongParameterType<S> {
 
         protected ParameterLong() {
             super(TypeWrap.of(Long.class));
@@ -102,13 +146,23 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "long";
         }
 
+        @Override
+        protected boolean accepts(String input) {
+            return NumberScanner.isLong(input);
+        }
+
         @Override
         public Long parse(String input) throws NumberFormatException {
+            return resolveLong(input);
+        }
+
+        @Override
+        public long resolveLong(String input) throws NumberFormatException {
             return Long.parseLong(input);
         }
     }
 
-    static class ParameterDouble<S extends Source> extends ParameterNumber<S, Double> {
+    static class ParameterDouble<S extends Source> extends ParameterNumber<S, Double> implements DoubleParameterType<S> {
 
         protected ParameterDouble() {
             super(TypeWrap.of(Double.class));
@@ -119,8 +173,18 @@ public abstract class ParameterNumber<S extends Source, N extends Number> extend
             return "double";
         }
 
+        @Override
+        protected boolean accepts(String input) {
+            return NumberScanner.isDecimal(input);
+        }
+
         @Override
         public Double parse(String input) throws NumberFormatException {
+            return resolveDouble(input);
+        }
+
+        @Override
+        public double resolveDouble(String input) throws NumberFormatException {
             return Double.parseDouble(input);
         }
     }
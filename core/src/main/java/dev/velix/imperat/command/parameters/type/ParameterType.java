@@ -20,12 +20,45 @@ public interface ParameterType<S extends Source, T> {
 
     @Nullable T resolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) throws ImperatException;
 
+    /**
+     * Resolves the current argument like {@link #resolve(ExecutionContext, CommandInputStream)},
+     * but returns the error instead of throwing it.
+     * Types rejecting common invalid input should override it to report it without throwing.
+     *
+     * @param context            the context of the execution
+     * @param commandInputStream the input stream, positioned at the argument to resolve
+     * @return the resolved value or the error to report
+     */
+    default @NotNull ResolveResult<T> tryResolve(ExecutionContext<S> context, @NotNull CommandInputStream<S> commandInputStream) {
+        try {
+            return ResolveResult.success(resolve(context, commandInputStream));
+        } catch (ImperatException ex) {
+            return ResolveResult.failure(ex);
+        }
+    }
+
     Collection<String> suggestions();
 
     TypeSuggestionResolver<S, T> getSuggestionResolver();
 
     boolean matchesInput(String input, CommandParameter<S> parameter);
 
+    /**
+     * Parses the input into its value while it's matched against the command tree, for the types
+     * whose value only depends on the input, so that resolving the argument later in the same dispatch
+     * reuses the value instead of parsing it again.
+     * <p>
+     * When parsed, the result MUST be a success exactly when {@link #matchesInput(String, CommandParameter)}
+     * would return true.
+     *
+     * @param input     the raw input
+     * @param parameter the parameter the input is matched against
+     * @return the parsed value or the error, null if the value can't be parsed from the input alone
+     */
+    default @Nullable ResolveResult<T> tryParse(String input, CommandParameter<S> parameter) {
+        return null;
+    }
+
     default boolean isRelatedToType(Type type) {
         return TypeUtility.areRelatedTypes(type, this.type());
     }
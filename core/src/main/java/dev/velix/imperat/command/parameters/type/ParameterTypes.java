@@ -1,6 +1,7 @@
 package dev.velix.imperat.command.parameters.type;
 
 import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.TypeWrap;
 import org.jetbrains.annotations.NotNull;
 
 public final class ParameterTypes {
@@ -21,6 +22,11 @@ public final class ParameterTypes {
         return ParameterNumber.from(numType);
     }
 
+    @SuppressWarnings("unchecked")
+    public static <S extends Source> ParameterEnum<S> enumeration(Class<? extends Enum<?>> enumType) {
+        return new ParameterEnum<>((TypeWrap<Enum<?>>) TypeWrap.of(enumType));
+    }
+
     public static <S extends Source> ParameterBoolean<S> bool() {
         return new ParameterBoolean<>();
     }
@@ -22,14 +22,27 @@ public final class ParameterUUID<S extends Source> extends BaseParameterType<S,
         ExecutionContext<S> context,
         @NotNull CommandInputStream<S> commandInputStream
     ) throws ImperatException {
+        return tryResolve(context, commandInputStream).getOrThrow();
+    }
+
+    @Override
+    public @NotNull ResolveResult<UUID> tryResolve(
+        ExecutionContext<S> context,
+        @NotNull CommandInputStream<S> commandInputStream
+    ) {
         String raw = commandInputStream.currentRaw();
         if (raw == null) {
-            return null;
+            return ResolveResult.success(null);
         }
+        return tryParse(raw, commandInputStream.currentParameter());
+    }
+
+    @Override
+    public @NotNull ResolveResult<UUID> tryParse(String raw, CommandParameter<S> parameter) {
         try {
-            return UUID.fromString(raw);
+            return ResolveResult.success(UUID.fromString(raw));
         } catch (Exception ex) {
-            throw new InvalidUUIDException(raw);
+            return ResolveResult.failure(new InvalidUUIDException(raw));
         }
     }
 
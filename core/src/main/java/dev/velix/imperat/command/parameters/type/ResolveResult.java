@@ -0,0 +1,70 @@
+package dev.velix.imperat.command.parameters.type;
+
+import dev.velix.imperat.exception.ImperatException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The outcome of resolving an argument into a value, either the value (which may be null)
+ * or the error to report to the source, so that invalid input can be reported
+ * without throwing the error, see {@link ParameterType#tryResolve}.
+ *
+ * @param <T> the type of the value
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class ResolveResult<T> {
+
+    private static final ResolveResult<?> NULL = new ResolveResult<>(null, null);
+
+    private final @Nullable T value;
+    private final @Nullable ImperatException error;
+
+    private ResolveResult(@Nullable T value, @Nullable ImperatException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ResolveResult<T> success(@Nullable T value) {
+        return value == null ? (ResolveResult<T>) NULL : new ResolveResult<>(value, null);
+    }
+
+    public static <T> ResolveResult<T> failure(@NotNull ImperatException error) {
+        return new ResolveResult<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return the resolved value, null if it failed to resolve
+     */
+    public @Nullable T value() {
+        return value;
+    }
+
+    /**
+     * @return the error to report, null if it resolved
+     */
+    public @Nullable ImperatException error() {
+        return error;
+    }
+
+    /**
+     * @return the resolved value
+     * @throws ImperatException the error, if it failed to resolve
+     */
+    public @Nullable T getOrThrow() throws ImperatException {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "ResolveResult(" + value + ")" : "ResolveResult(error=" + error + ")";
+    }
+}
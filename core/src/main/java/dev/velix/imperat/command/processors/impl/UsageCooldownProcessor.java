@@ -24,13 +24,13 @@ public final class UsageCooldownProcessor<S extends Source> implements CommandPr
         CommandUsage<S> usage
     ) throws ImperatException {
         var source = context.source();
-        if (usage.getCooldownHandler().hasCooldown(source)) {
+        var cooldownHandler = usage.getCooldownHandler();
+        if (!cooldownHandler.tryRegisterExecution(source)) {
             throw new CooldownException(
-                usage.getCooldownHandler().getUsageCooldown().orElseThrow().toMillis(),
-                usage.getCooldownHandler().getLastTimeExecuted(source).orElse(0L)
+                cooldownHandler.getUsageCooldown().orElseThrow().toMillis(),
+                cooldownHandler.getLastTimeExecuted(source).orElse(0L)
             );
         }
-        usage.getCooldownHandler().registerExecutionMoment(source);
     }
 
 }
@@ -0,0 +1,202 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.context.SuggestionContext;
+import dev.velix.imperat.resolvers.SuggestionResolver;
+import dev.velix.imperat.resolvers.TypeSuggestionResolver;
+import dev.velix.imperat.util.TypeWrap;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SuggestionResolver} reusing the suggestions of another one for a while,
+ * so that completing the same argument again (e.g: on every keystroke of a player
+ * going back and forth) doesn't hit the underlying data every time.
+ * <p>
+ * A completion is identified by the parameter being completed, what's been typed of it so far
+ * and, if {@link SuggestionCaching#perSource()}, the {@link Source#uuid()} of the source.
+ * Completions still running are shared as well, a failed one isn't cached.
+ * <p>
+ * Plugins should {@link #invalidate()} it whenever the underlying data changes.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public class CachedSuggestionResolver<S extends Source> implements SuggestionResolver<S> {
+
+    private final SuggestionResolver<S> delegate;
+    private final SuggestionCaching caching;
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    CachedSuggestionResolver(SuggestionResolver<S> delegate, SuggestionCaching caching) {
+        this.delegate = delegate;
+        this.caching = caching;
+        this.ttlNanos = caching.ttl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > caching.maxSize();
+            }
+        };
+    }
+
+    /**
+     * Wraps the resolver into a caching one, keeping it a {@link TypeSuggestionResolver} if it's one.
+     *
+     * @param resolver the resolver to cache the suggestions of
+     * @param caching  how to cache them
+     * @param <S>      the source type
+     * @return the caching resolver
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <S extends Source> CachedSuggestionResolver<S> of(
+        @NotNull SuggestionResolver<S> resolver,
+        @NotNull SuggestionCaching caching
+    ) {
+        if (resolver instanceof TypeSuggestionResolver<S, ?> typeResolver) {
+            return new Typed(typeResolver, caching);
+        }
+        return new CachedSuggestionResolver<>(resolver, caching);
+    }
+
+    /**
+     * @return the resolver the suggestions are cached of
+     */
+    public SuggestionResolver<S> getDelegate() {
+        return delegate;
+    }
+
+    public SuggestionCaching getCaching() {
+        return caching;
+    }
+
+    @Override
+    public Collection<String> autoComplete(SuggestionContext<S> context, CommandParameter<S> parameter) {
+        return delegate.autoComplete(context, parameter);
+    }
+
+    @Override
+    public CompletableFuture<Collection<String>> asyncAutoComplete(
+        SuggestionContext<S> context,
+        CommandParameter<S> parameter,
+        Executor executor
+    ) {
+        Key key = keyOf(context, parameter);
+        long now = System.nanoTime();
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && now - entry.createdAt < ttlNanos) {
+                hits.increment();
+                return entry.suggestions;
+            }
+            misses.increment();
+            //registered before the delegate runs, so that concurrent completions share it
+            entry = new Entry(new CompletableFuture<>(), now);
+            entries.put(key, entry);
+        }
+
+        final Entry created = entry;
+        delegate.asyncAutoComplete(context, parameter, executor).whenComplete((suggestions, ex) -> {
+            if (ex != null) {
+                synchronized (this) {
+                    entries.remove(key, created);
+                }
+                created.suggestions.completeExceptionally(ex);
+            } else {
+                created.suggestions.complete(suggestions);
+            }
+        });
+        return created.suggestions;
+    }
+
+    private Key keyOf(SuggestionContext<S> context, CommandParameter<S> parameter) {
+        CompletionArg arg = context.getArgToComplete();
+        String typed = arg.isEmpty() ? "" : arg.value().toLowerCase(Locale.ROOT);
+        return new Key(parameter, typed, caching.perSource() ? context.source().uuid() : null);
+    }
+
+    /**
+     * Drops all the cached suggestions.
+     */
+    public synchronized void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * Drops the cached suggestions of a source,
+     * or all of them if the suggestions aren't cached per source.
+     *
+     * @param source the id of the source
+     */
+    public synchronized void invalidate(@NotNull UUID source) {
+        if (!caching.perSource()) {
+            entries.clear();
+            return;
+        }
+        entries.keySet().removeIf((key) -> source.equals(key.source));
+    }
+
+    /**
+     * Drops the cached suggestions of a parameter.
+     *
+     * @param parameter the parameter
+     */
+    public synchronized void invalidate(@NotNull CommandParameter<S> parameter) {
+        entries.keySet().removeIf((key) -> parameter.equals(key.parameter));
+    }
+
+    /**
+     * @return the number of currently cached completions
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of completions served from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of completions that had to run the underlying resolver
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private record Key(CommandParameter<?> parameter, String typed, @Nullable UUID source) {
+    }
+
+    private record Entry(CompletableFuture<Collection<String>> suggestions, long createdAt) {
+    }
+
+    private static final class Typed<S extends Source, T> extends CachedSuggestionResolver<S> implements TypeSuggestionResolver<S, T> {
+
+        private final TypeWrap<T> type;
+
+        private Typed(TypeSuggestionResolver<S, T> delegate, SuggestionCaching caching) {
+            super(delegate, caching);
+            this.type = delegate.getType();
+        }
+
+        @Override
+        public @NotNull TypeWrap<T> getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.resolvers.SuggestionResolver;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * How the {@link SuggestionResolver}s of the arguments
+ * that may be completed at the cursor are run.
+ * <p>
+ * In both modes, the suggestions are merged in the order of the command tree
+ * and the duplicates are dropped.
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public enum CompletionMode {
+
+    /**
+     * Each resolver starts once the previous one has completed.
+     */
+    SEQUENTIAL,
+
+    /**
+     * All resolvers are started at once on the suggestion executor,
+     * so that a request takes as long as its slowest resolver
+     * rather than the sum of them.
+     */
+    PARALLEL
+}
@@ -0,0 +1,113 @@
+package dev.velix.imperat.command.suggestions;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * An immutable list of suggestions, indexed by their lower-cased form so that
+ * the ones starting with a prefix are found with two binary searches,
+ * instead of testing every suggestion.
+ * <p>
+ * Suggestion resolvers with large fixed sets of suggestions (e.g: the constants of an enum)
+ * should build one once and return it from every completion, the command tree then
+ * only reads the suggestions starting with the argument being typed.
+ * <p>
+ * Iterating over the index itself yields the suggestions in the order they were given.
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class PrefixIndex extends AbstractList<String> implements RandomAccess {
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(Collections.emptyList());
+
+    private final List<String> suggestions;
+    private final String[] sortedKeys;
+    private final String[] sortedSuggestions;
+
+    private PrefixIndex(List<String> suggestions) {
+        this.suggestions = suggestions;
+
+        final int size = suggestions.size();
+        Integer[] order = new Integer[size];
+        String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            keys[i] = suggestions.get(i).toLowerCase(Locale.ROOT);
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> keys[i]));
+
+        this.sortedKeys = new String[size];
+        this.sortedSuggestions = new String[size];
+        for (int i = 0; i < size; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedSuggestions[i] = suggestions.get(order[i]);
+        }
+    }
+
+    /**
+     * @param suggestions the suggestions to index, copied
+     * @return the index of the suggestions
+     */
+    public static PrefixIndex of(@NotNull Collection<String> suggestions) {
+        if (suggestions instanceof PrefixIndex index) {
+            return index;
+        }
+        if (suggestions.isEmpty()) {
+            return EMPTY;
+        }
+        return new PrefixIndex(List.copyOf(suggestions));
+    }
+
+    /**
+     * @param suggestions the suggestions to index
+     * @return the index of the suggestions
+     */
+    public static PrefixIndex of(@NotNull String... suggestions) {
+        return of(Arrays.asList(suggestions));
+    }
+
+    /**
+     * Fetches the suggestions starting with the given prefix, ignoring the case.
+     *
+     * @param prefix the prefix, usually the argument being typed
+     * @return a view of the matching suggestions, in the order they were given
+     * for an empty prefix, and in lower-case alphabetical order otherwise
+     */
+    public @NotNull List<String> startingWith(@NotNull String prefix) {
+        if (prefix.isEmpty()) {
+            return suggestions;
+        }
+        String key = prefix.toLowerCase(Locale.ROOT);
+        int from = lowerBound(key);
+        //no suggestion contains this char, so it's greater than every key starting with the prefix
+        int to = lowerBound(key + Character.MAX_VALUE);
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(sortedSuggestions).subList(from, to));
+    }
+
+    private int lowerBound(String key) {
+        int low = 0, high = sortedKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedKeys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String get(int index) {
+        return suggestions.get(index);
+    }
+
+    @Override
+    public int size() {
+        return suggestions.size();
+    }
+}
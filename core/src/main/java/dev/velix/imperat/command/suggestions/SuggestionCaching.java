@@ -0,0 +1,50 @@
+package dev.velix.imperat.command.suggestions;
+
+import dev.velix.imperat.annotations.CachedSuggestions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * How the suggestions of a resolver are cached by {@link CachedSuggestionResolver}.
+ *
+ * @param ttl       how long the suggestions of a completion are reused
+ * @param maxSize   the maximum number of cached completions, the least recently used are dropped first
+ * @param perSource whether every source has its own suggestions, e.g: when they depend on its permissions
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public record SuggestionCaching(@NotNull Duration ttl, int maxSize, boolean perSource) {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    public SuggestionCaching {
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("Suggestions cache ttl must be positive, got " + ttl);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Suggestions cache size must be positive, got " + maxSize);
+        }
+    }
+
+    public static SuggestionCaching of(@NotNull Duration ttl) {
+        return new SuggestionCaching(ttl, DEFAULT_MAX_SIZE, false);
+    }
+
+    /**
+     * @param type the class of the resolver
+     * @return the caching declared by {@link CachedSuggestions} on the class, if any
+     */
+    public static @Nullable SuggestionCaching declaredBy(Class<?> type) {
+        CachedSuggestions annotation = type.getAnnotation(CachedSuggestions.class);
+        if (annotation == null) {
+            return null;
+        }
+        return new SuggestionCaching(
+            Duration.ofNanos(annotation.unit().toNanos(annotation.ttl())),
+            annotation.maxSize(),
+            annotation.perSource()
+        );
+    }
+}
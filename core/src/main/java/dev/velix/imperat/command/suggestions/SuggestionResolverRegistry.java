@@ -15,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @ApiStatus.Internal
 public final class SuggestionResolverRegistry<S extends Source> {
@@ -55,12 +56,12 @@ public final class SuggestionResolverRegistry<S extends Source> {
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     public final class EnumSuggestionResolver implements TypeSuggestionResolver<S, Enum> {
-        private final Map<Type, List<String>> PRE_LOADED_ENUMS = new HashMap<>();
+        private final Map<Type, PrefixIndex> PRE_LOADED_ENUMS = new ConcurrentHashMap<>();
 
         public void registerEnumResolver(Type raw) {
             Class<Enum> enumClass = (Class<Enum>) raw;
             PRE_LOADED_ENUMS.computeIfAbsent(raw,
-                (v) -> Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList());
+                (v) -> PrefixIndex.of(Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList()));
         }
 
         private Optional<List<String>> getResults(Type type) {
@@ -1,6 +1,7 @@
 package dev.velix.imperat.command.tree;
 
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.ParsedArguments;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -8,8 +9,8 @@ import org.jetbrains.annotations.NotNull;
 @ApiStatus.Internal
 public final class ArgumentNode<S extends Source> extends ParameterNode<S, CommandParameter<S>> {
 
-    ArgumentNode(@NotNull CommandParameter<S> data) {
-        super(data);
+    ArgumentNode(@NotNull CommandParameter<S> data, ParameterNode<S, ?>[] children) {
+        super(data, children);
     }
 
     @Override
@@ -18,6 +19,11 @@ public final class ArgumentNode<S extends Source> extends ParameterNode<S, Comma
         return type.matchesInput(input, data);
     }
 
+    @Override
+    public boolean matchesInput(String input, ParsedArguments parsed) {
+        return parsed.matches(data, input);
+    }
+
     @Override
     public String format() {
         return data.format();
@@ -18,6 +18,9 @@ public final class CommandDispatch<S extends Source> implements Iterable<Command
 
     private Result result;
 
+    //known upfront for dispatches built out of a cached result
+    private @Nullable CommandUsage<S> usage;
+
     private CommandDispatch(Result result) {
         this.result = result;
     }
@@ -26,6 +29,17 @@ public final class CommandDispatch<S extends Source> implements Iterable<Command
         return new CommandDispatch<>(result);
     }
 
+    static <S extends Source> CommandDispatch<S> of(
+        Result result,
+        List<CommandParameter<S>> parameters,
+        @Nullable CommandUsage<S> usage
+    ) {
+        CommandDispatch<S> dispatch = new CommandDispatch<>(result);
+        dispatch.parameters.addAll(parameters);
+        dispatch.usage = usage;
+        return dispatch;
+    }
+
     static <S extends Source> CommandDispatch<S> empty() {
         return of(Result.UNKNOWN);
     }
@@ -40,6 +54,10 @@ public final class CommandDispatch<S extends Source> implements Iterable<Command
         parameters.add(node.data);
     }
 
+    List<CommandParameter<S>> parameters() {
+        return parameters;
+    }
+
     public CommandParameter<S> getLastParameter() {
         return parameters.get(parameters.size() - 1);
     }
@@ -58,6 +76,9 @@ public final class CommandDispatch<S extends Source> implements Iterable<Command
     }
 
     public @Nullable CommandUsage<S> toUsage(Command<S> command) {
+        if (usage != null) {
+            return usage;
+        }
         return command.getUsage(parameters);
     }
 
@@ -8,8 +8,8 @@ import org.jetbrains.annotations.NotNull;
 @ApiStatus.Internal
 public final class CommandNode<S extends Source> extends ParameterNode<S, Command<S>> {
 
-    CommandNode(@NotNull Command<S> data) {
-        super(data);
+    CommandNode(@NotNull Command<S> data, ParameterNode<S, ?>[] children) {
+        super(data, children);
     }
 
     boolean isSubCommand() {
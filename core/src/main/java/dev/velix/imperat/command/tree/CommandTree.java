@@ -4,27 +4,44 @@ import dev.velix.imperat.Imperat;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.CompletionMode;
+import dev.velix.imperat.command.suggestions.PrefixIndex;
 import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.ParsedArguments;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.resolvers.SuggestionResolver;
-import dev.velix.imperat.util.TypeUtility;
+import dev.velix.imperat.util.ImperatDebugger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Mqzen
  */
 public final class CommandTree<S extends Source> {
 
-    final CommandNode<S> root;
+    private final Command<S> command;
+
+    //the usages are parsed into the builders (guarded by this tree), then compiled into
+    //a new immutable tree published as a whole, null until the parsed usages are compiled
+    private final NodeBuilder<S> builder;
+    private volatile @Nullable CommandNode<S> root;
+
+    private volatile @Nullable DispatchCache<S> dispatchCache = null;
 
     CommandTree(Command<S> command) {
-        this.root = new CommandNode<>(command);
+        this.command = command;
+        this.builder = new NodeBuilder<>(command);
         //parse(command);
     }
 
@@ -40,116 +57,317 @@ public final class CommandTree<S extends Source> {
 
     //parsing usages part
     public void parseCommandUsages() {
-        for (CommandUsage<S> usage : root.data.usages()) {
+        for (CommandUsage<S> usage : command.usages()) {
             parseUsage(usage);
         }
     }
 
-    public void parseUsage(CommandUsage<S> usage) {
+    /**
+     * Parses the usage into the tree, dropping the compiled tree if any,
+     * the tree is compiled again with every usage parsed meanwhile the next time it's read.
+     *
+     * @param usage the usage to parse
+     */
+    public synchronized void parseUsage(CommandUsage<S> usage) {
         List<CommandParameter<S>> parameters = usage.getParameters();
         if (parameters == null || parameters.isEmpty()) {
             return;
         }
-        addParametersToTree(root, parameters, 0);
+        NodeBuilder<S> node = builder;
+        for (CommandParameter<S> param : parameters) {
+            node = node.child(param);
+        }
+        root = null;
+        DispatchCache<S> cache = this.dispatchCache;
+        if (cache != null) {
+            cache.invalidate();
+        }
     }
 
-    private void addParametersToTree(
-        ParameterNode<S, ?> currentNode,
-        List<CommandParameter<S>> parameters,
-        int index
-    ) {
-        if (index >= parameters.size()) {
-            return;
-        }
+    /**
+     * Compiles the parsed usages into a new immutable tree, with every node's children
+     * sorted into flat arrays and the per-node flags used while matching precomputed,
+     * then swaps it in place of the previous one at once.
+     * It's called once the command is registered, the usages parsed afterwards
+     * are compiled together once the tree is read again.
+     */
+    public synchronized void compile() {
+        publish();
+    }
 
-        CommandParameter<S> param = parameters.get(index);
-        ParameterNode<S, ?> childNode = getChildNode(currentNode, param);
-        // Recursively add the remaining parameters to the child node
-        addParametersToTree(childNode, parameters, index + 1);
+    //guarded by this tree
+    @SuppressWarnings("unchecked")
+    private CommandNode<S> publish() {
+        CommandNode<S> root = (CommandNode<S>) builder.compile();
+        this.root = root;
+        DispatchCache<S> cache = this.dispatchCache;
+        if (cache != null) {
+            //after swapping the root, so that results of matching the previous one aren't cached
+            cache.rebuild(root);
+        }
+        return root;
     }
 
-    private ParameterNode<S, ?> getChildNode(ParameterNode<S, ?> parent, CommandParameter<S> param) {
-        for (ParameterNode<S, ?> child : parent.getChildren()) {
-            if (child.data.name().equalsIgnoreCase(param.name())
-                && TypeUtility.matches(child.data.valueType(), param.valueType())) {
-                return child;
-            }
+    /**
+     * Enables caching the results of {@link #contextMatch(ArgumentQueue)} by the shape
+     * of the input, keeping at most the given number of shapes.
+     *
+     * @param maxSize the maximum number of cached shapes
+     * @see DispatchCache
+     */
+    public synchronized void enableDispatchCache(int maxSize) {
+        DispatchCache<S> cache = new DispatchCache<>(maxSize);
+        CommandNode<S> root = this.root;
+        if (root != null) {
+            cache.rebuild(root);
         }
-        ParameterNode<S, ?> newNode;
-        if (param.isCommand())
-            newNode = new CommandNode<>(param.asCommand());
-        else
-            newNode = new ArgumentNode<>(param);
+        this.dispatchCache = cache;
+    }
 
-        parent.addChild(newNode);
-        return newNode;
+    /**
+     * @return the dispatch cache of this tree, or null if it's not enabled
+     */
+    public @Nullable DispatchCache<S> getDispatchCache() {
+        return dispatchCache;
     }
 
     public @NotNull CompletableFuture<Collection<String>> tabComplete(Imperat<S> imperat, SuggestionContext<S> context) {
+        final CommandNode<S> root = getRoot();
         final int depthToReach = context.getArgToComplete().index();
 
-        CompletableFuture<Collection<String>> future = CompletableFuture.completedFuture(new ArrayList<>());
-        for (var child : root.getChildren()) {
-            future = future.thenCompose((results) -> collectNodeCompletions(imperat, context, child, 0, depthToReach, results));
+        List<ParameterNode<S, ?>> targets = new ArrayList<>();
+        try {
+            collectChildrenTargets(imperat, context, root, 0, depthToReach, targets);
+        } catch (RuntimeException ex) {
+            //reported through the future, like the failures of the resolvers
+            ImperatDebugger.error(CommandTree.class, "tabComplete", ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+        if (targets.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        final boolean parallel = imperat.getCompletionMode() == CompletionMode.PARALLEL;
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Collection<String>>[] completions =
+            (CompletableFuture<Collection<String>>[]) new CompletableFuture<?>[targets.size()];
+        CompletableFuture<?> previous = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < completions.length; i++) {
+            ParameterNode<S, ?> target = targets.get(i);
+            completions[i] = parallel
+                ? complete(imperat, context, target)
+                : previous.thenCompose((ignored) -> complete(imperat, context, target));
+            previous = completions[i];
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(completions);
+        Duration timeout = imperat.getSuggestionTimeout();
+        if (timeout != null) {
+            //the resolvers still running are left behind, with the suggestions collected so far
+            all = all.completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        //only the suggestions continuing what's typed so far are kept
+        final String prefix = context.getArgToComplete().isEmpty() ? "" : context.getArgToComplete().value();
+        final int limit = imperat.getSuggestionLimit();
+        return all.thenApply((ignored) -> merge(completions, prefix, limit));
+    }
+
+    private static Collection<String> merge(
+        CompletableFuture<Collection<String>>[] completions,
+        String prefix,
+        int limit
+    ) {
+        @SuppressWarnings("unchecked")
+        Collection<String>[] matching = (Collection<String>[]) new Collection<?>[completions.length];
+        boolean[] indexed = new boolean[completions.length];
+        int expected = 0;
+        for (int i = 0; i < completions.length; i++) {
+            Collection<String> results = completions[i].getNow(null);
+            if (results == null) continue;
+            if (results instanceof PrefixIndex index) {
+                results = index.startingWith(prefix);
+                indexed[i] = true;
+            }
+            matching[i] = results;
+            expected += results.size();
+        }
+
+        final int capacity = Math.min(expected, limit);
+        List<String> merged = new ArrayList<>(capacity);
+        Set<String> seen = new HashSet<>(capacity * 4 / 3 + 1);
+        for (int i = 0; i < matching.length; i++) {
+            Collection<String> results = matching[i];
+            if (results == null) continue;
+            final boolean filtered = indexed[i] || prefix.isEmpty();
+            for (String result : results) {
+                if (!filtered && !result.regionMatches(true, 0, prefix, 0, prefix.length())) continue;
+                if (seen.add(result)) {
+                    merged.add(result);
+                    if (merged.size() == limit) return merged;
+                }
+            }
+        }
+        return merged;
+    }
+
+    private CompletableFuture<Collection<String>> complete(
+        Imperat<S> imperat,
+        SuggestionContext<S> context,
+        ParameterNode<S, ?> node
+    ) {
+        if (node instanceof CommandNode<?>) {
+            return CompletableFuture.completedFuture(
+                literalCompletions(node.data.asCommand(), context.getArgToComplete().value())
+            );
+        }
+        SuggestionResolver<S> resolver = imperat.getParameterSuggestionResolver(node.data);
+        return resolver.asyncAutoComplete(context, node.data, imperat.getSuggestionExecutor())
+            .exceptionally((ex) -> {
+                ImperatDebugger.error(resolver.getClass(), "asyncAutoComplete", ex);
+                return Collections.emptyList();
+            });
+    }
+
+    private void collectChildrenTargets(
+        Imperat<S> imperat,
+        SuggestionContext<S> context,
+        ParameterNode<S, ?> parent,
+        int depth,
+        final int maxDepth,
+        List<ParameterNode<S, ?>> targets
+    ) {
+        String raw = context.arguments().getOr(depth, "");
+        assert raw != null;
+
+        if (depth == maxDepth || raw.isBlank()) {
+            //the arg being completed may be partial, so every child is a candidate
+            for (var child : parent.getChildrenArray()) {
+                collectNodeTargets(imperat, context, child, depth, maxDepth, targets);
+            }
+            return;
+        }
+
+        //a complete token can only lead through the one literal child it names
+        CommandNode<S> literal = parent.getLiteralChild(raw);
+        if (literal != null) {
+            collectNodeTargets(imperat, context, literal, depth, maxDepth, targets);
+        }
+        for (var child : parent.getArgumentChildren()) {
+            collectNodeTargets(imperat, context, child, depth, maxDepth, targets);
         }
-        return future;
     }
 
-    private CompletableFuture<Collection<String>> collectNodeCompletions(
+    private void collectNodeTargets(
         Imperat<S> imperat,
         SuggestionContext<S> context,
         ParameterNode<S, ?> child,
         int depth,
         final int maxDepth,
-        Collection<String> results
+        List<ParameterNode<S, ?>> targets
     ) {
         if (depth > maxDepth) {
-            return CompletableFuture.completedFuture(results);
+            return;
         }
 
         String raw = context.arguments().getOr(depth, "");
         assert raw != null;
 
         if (
-            (!raw.isBlank() || !raw.isEmpty()) && !child.matchesInput(raw)
-                || (!root.data.isIgnoringACPerms() && !imperat.getPermissionResolver()
+            !raw.isEmpty() && !acceptsInput(child, raw, depth == maxDepth)
+                || (!command.isIgnoringACPerms() && !imperat.getPermissionResolver()
                 .hasPermission(context.source(), child.data.permission()))
         ) {
-            return CompletableFuture.completedFuture(results);
+            return;
         }
 
         if (depth == maxDepth) {
-            //we reached the arg we want to complete, let's complete it using our current node
-            //COMPLETE DIRECTLY
-            return addChildResults(imperat, context, child);
+            //we reached the arg we want to complete, its node completes it
+            targets.add(child);
         } else {
             if (child.data.isFlag() && !child.data.asFlagParameter().isSwitch()) {
                 //auto completing value for flag, using SAME child/flag parameter while incrementing depth by 1
-                return collectNodeCompletions(imperat, context, child, depth + 1, maxDepth, results);
+                collectNodeTargets(imperat, context, child, depth + 1, maxDepth, targets);
+                return;
             }
-            CompletableFuture<Collection<String>> future = CompletableFuture.completedFuture(results);
             //Keep looking
-            for (var innerChild : child.getChildren()) {
-                future = future.thenCompose((res) -> collectNodeCompletions(imperat, context, innerChild, depth + 1, maxDepth, res));
-            }
+            collectChildrenTargets(imperat, context, child, depth + 1, maxDepth, targets);
+        }
+    }
 
-            return future;
+    private static boolean acceptsInput(ParameterNode<?, ?> node, String raw, boolean partial) {
+        if (!partial) {
+            return node.matchesInput(raw);
+        }
+        //nothing typed yet for the arg being completed, every node may complete it
+        if (raw.isBlank()) {
+            return true;
+        }
+        if (!(node instanceof CommandNode<?>)) {
+            return node.matchesInput(raw);
         }
+        return !literalCompletions(node.data.asCommand(), raw).isEmpty();
     }
 
-    private CompletableFuture<Collection<String>> addChildResults(
-        Imperat<S> imperat,
-        SuggestionContext<S> context,
-        ParameterNode<S, ?> node
-    ) {
-        SuggestionResolver<S> resolver = imperat.getParameterSuggestionResolver(node.data);
-        return resolver.asyncAutoComplete(context, node.data);
+    /**
+     * A literal being typed is completed by its name if it starts with what's typed so far,
+     * or else by its aliases that do.
+     */
+    private static List<String> literalCompletions(Command<?> command, String typed) {
+        String prefix = typed.isBlank() ? "" : typed;
+        if (command.name().regionMatches(true, 0, prefix, 0, prefix.length())) {
+            return List.of(command.name());
+        }
+        List<String> aliases = new ArrayList<>(1);
+        for (String alias : command.aliases()) {
+            if (alias.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                aliases.add(alias);
+            }
+        }
+        return aliases;
     }
 
 
     //context matching part
     public @NotNull CommandDispatch<S> contextMatch(
         ArgumentQueue input
+    ) {
+        return contextMatch(input, new ParsedArguments());
+    }
+
+    /**
+     * Matches the input against the tree, parsing the arguments that can be
+     * into the given {@link ParsedArguments}, to be reused when resolving them.
+     *
+     * @param input  the input
+     * @param parsed the arguments parsed in the dispatch
+     * @return the result of the matching
+     */
+    public @NotNull CommandDispatch<S> contextMatch(
+        ArgumentQueue input,
+        ParsedArguments parsed
+    ) {
+        DispatchCache<S> cache = this.dispatchCache;
+        if (cache == null || input.isEmpty()) {
+            return traverse(getRoot(), input, parsed, null);
+        }
+
+        DispatchCache.Key key = cache.keyOf(input);
+        //read after the key, so that the result of matching a tree compiled in between isn't cached
+        final CommandNode<S> root = getRoot();
+        CommandDispatch<S> dispatch = cache.get(key, input, parsed);
+        if (dispatch == null) {
+            DispatchCache.Recording<S> recording = cache.record();
+            dispatch = traverse(root, input, parsed, recording);
+            cache.put(key, recording, dispatch, dispatch.toUsage(command));
+        }
+        return dispatch;
+    }
+
+    private @NotNull CommandDispatch<S> traverse(
+        CommandNode<S> root,
+        ArgumentQueue input,
+        ParsedArguments parsed,
+        @Nullable DispatchCache.Recording<S> recording
     ) {
         if (input.isEmpty()) {
             return CommandDispatch.incomplete();
@@ -157,9 +375,17 @@ public final class CommandTree<S extends Source> {
 
         int depth = 0;
 
-        for (ParameterNode<S, ?> child : root.getChildren()) {
+        CommandNode<S> literal = root.getLiteralChild(input.get(depth));
+        if (literal != null) {
+            var traverse = contextMatchNode(CommandDispatch.empty(), input, parsed, recording, literal, depth);
+            if (traverse.result() != CommandDispatch.Result.UNKNOWN) {
+                return traverse;
+            }
+        }
+
+        for (ParameterNode<S, ?> child : root.getArgumentChildren()) {
             CommandDispatch<S> nodeTraversing = CommandDispatch.empty();
-            var traverse = contextMatchNode(nodeTraversing, input, child, depth);
+            var traverse = contextMatchNode(nodeTraversing, input, parsed, recording, child, depth);
 
             if (traverse.result() != CommandDispatch.Result.UNKNOWN) {
                 return traverse;
@@ -173,6 +399,8 @@ public final class CommandTree<S extends Source> {
     private @NotNull CommandDispatch<S> contextMatchNode(
         CommandDispatch<S> commandDispatch,
         ArgumentQueue input,
+        ParsedArguments parsed,
+        @Nullable DispatchCache.Recording<S> recording,
         ParameterNode<S, ?> currentNode,
         int depth
     ) {
@@ -182,7 +410,10 @@ public final class CommandTree<S extends Source> {
         }
 
         String raw = input.get(depth);
-        boolean matchesInput = currentNode.matchesInput(raw);
+        boolean matchesInput = currentNode.matchesInput(raw, parsed);
+        if (recording != null) {
+            recording.record(currentNode, depth, matchesInput);
+        }
         if (!matchesInput) {
             return commandDispatch;
         }
@@ -209,13 +440,13 @@ public final class CommandTree<S extends Source> {
                 if (currentNode.isOptional()) {
                     //so if the node is optional,
                     // we go deeper into the tree, while backtracking the depth of the argument input.
-                    return searchForMatch(currentNode, commandDispatch, input, depth - 1);
+                    return searchForMatch(currentNode, commandDispatch, input, parsed, recording, depth - 1);
                 } else {
                     //ImperatDebugger.debug("Last Depth=%s, Current node= %s", depth, node.format());
                     //node is not the last, and we reached the end of the raw input length
                     //We check if there's any missing optional
                     boolean allOptional = true;
-                    for (ParameterNode<S, ?> child : currentNode.getChildren()) {
+                    for (ParameterNode<S, ?> child : currentNode.getChildrenArray()) {
                         if (!child.isOptional()) {
                             allOptional = false;
                             break;
@@ -230,7 +461,7 @@ public final class CommandTree<S extends Source> {
                             commandDispatch.append(child);
                             //collect optionals while depth is constant since we reached the end of raw input early
                             if (!child.isLeaf()) {
-                                return searchForMatch(child, commandDispatch, input, depth - 1);
+                                return searchForMatch(child, commandDispatch, input, parsed, recording, depth - 1);
                             }
                         }
                     }
@@ -241,11 +472,11 @@ public final class CommandTree<S extends Source> {
                     if (requiredChild != null) {
                         commandDispatch.append(requiredChild);
                         if (!requiredChild.isLeaf()) {
-                            return searchForMatch(requiredChild, commandDispatch, input, depth - 1);
+                            return searchForMatch(requiredChild, commandDispatch, input, parsed, recording, depth - 1);
                         }
                     }
                     //ImperatDebugger.debug("All optional after last depth ? = %s", (allOptional) );
-                    var usage = commandDispatch.toUsage(root.data);
+                    var usage = commandDispatch.toUsage(command);
                     commandDispatch.result(
                         allOptional || (usage != null && !(currentNode instanceof CommandNode<?>))
                             ? CommandDispatch.Result.COMPLETE
@@ -255,7 +486,7 @@ public final class CommandTree<S extends Source> {
                 }
 
             } else {
-                return this.searchForMatch(currentNode, commandDispatch, input, depth);
+                return this.searchForMatch(currentNode, commandDispatch, input, parsed, recording, depth);
             }
 
         }
@@ -266,17 +497,41 @@ public final class CommandTree<S extends Source> {
         ParameterNode<S, ?> node,
         CommandDispatch<S> commandDispatch,
         ArgumentQueue input,
+        ParsedArguments parsed,
+        @Nullable DispatchCache.Recording<S> recording,
         int depth
     ) {
-        for (ParameterNode<S, ?> child : node.getChildren()) {
-            var traversedChild = contextMatchNode(commandDispatch, input, child, depth + 1);
+        final int nextDepth = depth + 1;
+        if (nextDepth >= input.size()) {
+            return commandDispatch;
+        }
+
+        CommandNode<S> literal = node.getLiteralChild(input.get(nextDepth));
+        if (literal != null) {
+            var traversedLiteral = contextMatchNode(commandDispatch, input, parsed, recording, literal, nextDepth);
+            if (traversedLiteral.result() == CommandDispatch.Result.COMPLETE)
+                return traversedLiteral;
+        }
+
+        for (ParameterNode<S, ?> child : node.getArgumentChildren()) {
+            var traversedChild = contextMatchNode(commandDispatch, input, parsed, recording, child, nextDepth);
             if (traversedChild.result() == CommandDispatch.Result.COMPLETE)
                 return traversedChild;
         }
         return commandDispatch;
     }
 
+    /**
+     * @return the root of the compiled tree, compiling the usages parsed since it last was, if any
+     */
     public CommandNode<S> getRoot() {
-        return root;
+        CommandNode<S> root = this.root;
+        if (root != null) {
+            return root;
+        }
+        synchronized (this) {
+            root = this.root;
+            return root != null ? root : publish();
+        }
     }
 }
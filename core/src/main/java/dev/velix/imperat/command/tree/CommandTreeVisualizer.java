@@ -22,7 +22,7 @@ public final class CommandTreeVisualizer<S extends Source> {
     public void visualize() {
         if (tree == null) return;
         StringBuilder builder = new StringBuilder();
-        visualizeNode(tree.root, builder, 0);
+        visualizeNode(tree.getRoot(), builder, 0);
         ImperatDebugger.debug(builder.toString());
     }
 
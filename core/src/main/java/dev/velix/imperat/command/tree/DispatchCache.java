@@ -0,0 +1,251 @@
+package dev.velix.imperat.command.tree;
+
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.type.ParameterTypes;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.ParsedArguments;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.NumberScanner;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded LRU cache of the results of matching input against a {@link CommandTree},
+ * keyed by the shape of the input rather than the input itself.
+ * <p>
+ * The shape of an input is its number of tokens, along with each token itself if it's a literal
+ * of the tree, or else its {@link InputClass}, so it's computed from the tokens alone.
+ * The built-in string and number types match input by its class only, any other argument
+ * tried while matching the input the first time is tried again on a hit, the entry is only
+ * used if they all match (or not) the same way, which guarantees that the tree would have
+ * been traversed the same way.
+ * <p>
+ * Entries are immutable, a hit builds a new {@link CommandDispatch} out of its usage and result.
+ * The cache is cleared every time the tree is compiled, which happens
+ * whenever usages (or sub-commands) are added to the command.
+ *
+ * @param <S> the source type
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class DispatchCache<S extends Source> {
+
+    //the built-in types whose matching only depends on the class of the input
+    private static final Set<Class<?>> SHAPED_TYPES = Set.of(
+        ParameterTypes.string().getClass(),
+        ParameterTypes.numeric(Integer.class).getClass(),
+        ParameterTypes.numeric(Long.class).getClass(),
+        ParameterTypes.numeric(Float.class).getClass(),
+        ParameterTypes.numeric(Double.class).getClass()
+    );
+
+    private final int maxSize;
+    private final Map<Key, Entry<S>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile Set<String> literals = Collections.emptySet();
+    //bumped whenever the tree changes, so that results of matching the previous tree aren't cached
+    private volatile int generation = 0;
+
+    DispatchCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Dispatch cache size must be positive, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry<S>> eldest) {
+                return size() > DispatchCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Re-reads the literals of the compiled tree and drops every cached entry.
+     *
+     * @param root the root of the compiled tree
+     */
+    synchronized void rebuild(CommandNode<S> root) {
+        Set<String> literals = new HashSet<>();
+        collect(root, literals);
+        this.literals = literals;
+        invalidate();
+    }
+
+    private void collect(ParameterNode<S, ?> node, Set<String> literals) {
+        for (ParameterNode<S, ?> child : node.getChildrenArray()) {
+            if (child instanceof CommandNode<?>) {
+                literals.add(child.data.name().toLowerCase());
+                for (String alias : child.data.asCommand().aliases()) {
+                    literals.add(alias.toLowerCase());
+                }
+            }
+            collect(child, literals);
+        }
+    }
+
+    /**
+     * @param input the input to compute the shape of
+     * @return the shape of the input
+     */
+    Key keyOf(ArgumentQueue input) {
+        Set<String> literals = this.literals;
+        final int size = input.size();
+        Object[] shape = new Object[size];
+        for (int i = 0; i < size; i++) {
+            String raw = input.get(i);
+            String lowerCase = raw.toLowerCase();
+            shape[i] = literals.contains(lowerCase) ? lowerCase : InputClass.of(raw);
+        }
+        return new Key(shape, generation);
+    }
+
+    /**
+     * @param key    the shape of the input
+     * @param input  the input
+     * @param parsed the arguments parsed so far in the dispatch
+     * @return a new dispatch out of the cached result, null if none is cached for the shape or it doesn't apply to the input
+     */
+    @Nullable CommandDispatch<S> get(Key key, ArgumentQueue input, ParsedArguments parsed) {
+        Entry<S> entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.appliesTo(input, parsed)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return CommandDispatch.of(entry.result, entry.parameters, entry.usage);
+    }
+
+    /**
+     * @return a new recording of the arguments tried while matching input, to be cached along with the result
+     */
+    Recording<S> record() {
+        return new Recording<>();
+    }
+
+    synchronized void put(Key key, Recording<S> recording, CommandDispatch<S> dispatch, @Nullable CommandUsage<S> usage) {
+        if (key.generation != generation) {
+            return;
+        }
+        entries.put(key, new Entry<>(
+            recording.probes.toArray(Probe[]::new),
+            List.copyOf(dispatch.parameters()),
+            usage,
+            dispatch.result()
+        ));
+    }
+
+    /**
+     * Drops every cached entry, the counters are kept.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * @return the maximum number of cached shapes
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of currently cached shapes
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to traverse the tree
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * The class of a token that isn't a literal of the tree, which decides whether
+     * the built-in string and number types match it.
+     */
+    enum InputClass {
+        INT,
+        LONG,
+        DECIMAL,
+        WORD;
+
+        static InputClass of(String raw) {
+            if (NumberScanner.isInt(raw)) return INT;
+            if (NumberScanner.isLong(raw)) return LONG;
+            if (NumberScanner.isDecimal(raw)) return DECIMAL;
+            return WORD;
+        }
+    }
+
+    record Key(Object[] shape, int generation) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && generation == other.generation && Arrays.equals(shape, other.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(shape);
+        }
+    }
+
+    /**
+     * The arguments tried while matching input against the tree, other than
+     * those whose matching is decided by the shape of the input.
+     */
+    static final class Recording<S extends Source> {
+
+        private final List<Probe> probes = new ArrayList<>(4);
+
+        void record(ParameterNode<S, ?> node, int depth, boolean matched) {
+            if (node instanceof CommandNode<?> || SHAPED_TYPES.contains(node.data.type().getClass())) {
+                return;
+            }
+            for (Probe probe : probes) {
+                if (probe.node == node && probe.depth == depth) return;
+            }
+            probes.add(new Probe(node, depth, matched));
+        }
+    }
+
+    private record Probe(ParameterNode<?, ?> node, int depth, boolean matched) {
+    }
+
+    private record Entry<S extends Source>(
+        Probe[] probes,
+        List<CommandParameter<S>> parameters,
+        @Nullable CommandUsage<S> usage,
+        CommandDispatch.Result result
+    ) {
+
+        boolean appliesTo(ArgumentQueue input, ParsedArguments parsed) {
+            for (Probe probe : probes) {
+                if (probe.node.matchesInput(input.get(probe.depth), parsed) != probe.matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.velix.imperat.command.tree;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.util.ImperatDebugger;
+import dev.velix.imperat.util.TypeUtility;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A node of a {@link CommandTree} while usages are parsed into it,
+ * it's only ever read to be compiled into the immutable {@link ParameterNode}s matched against.
+ *
+ * @param <S> the source type
+ */
+final class NodeBuilder<S extends Source> {
+
+    private final CommandParameter<S> data;
+
+    //children in insertion order
+    private final List<NodeBuilder<S>> children = new ArrayList<>();
+
+    //literal children (sub-commands) by their lower-cased names and aliases, to report collisions
+    private final Map<String, NodeBuilder<S>> literals = new HashMap<>();
+
+    NodeBuilder(CommandParameter<S> data) {
+        this.data = data;
+    }
+
+    /**
+     * @param param the parameter
+     * @return the child built for the parameter, added if none was
+     */
+    NodeBuilder<S> child(CommandParameter<S> param) {
+        NodeBuilder<S> existing = param.isCommand() ? literalChild(param.name()) : argumentChild(param);
+        if (existing != null) {
+            return existing;
+        }
+        NodeBuilder<S> child = new NodeBuilder<>(param);
+        children.add(child);
+        if (param.isCommand()) {
+            indexLiteral(child);
+        }
+        return child;
+    }
+
+    private @Nullable NodeBuilder<S> literalChild(String name) {
+        NodeBuilder<S> literal = literals.get(name.toLowerCase());
+        return literal != null && literal.data.name().equalsIgnoreCase(name) ? literal : null;
+    }
+
+    private @Nullable NodeBuilder<S> argumentChild(CommandParameter<S> param) {
+        for (NodeBuilder<S> child : children) {
+            if (!child.data.isCommand()
+                && child.data.name().equalsIgnoreCase(param.name())
+                && TypeUtility.matches(child.data.valueType(), param.valueType())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    //names take priority over aliases, an alias only goes to the first sibling having it
+    private void indexLiteral(NodeBuilder<S> node) {
+        Command<S> command = node.data.asCommand();
+        String name = command.name().toLowerCase();
+        NodeBuilder<S> previous = literals.put(name, node);
+        if (previous != null) {
+            ImperatDebugger.warning("Sub-command '%s' of '%s' shadows the alias '%s' of sub-command '%s'",
+                command.name(), data.name(), name, previous.data.name());
+        }
+        for (String alias : command.aliases()) {
+            String key = alias.toLowerCase();
+            NodeBuilder<S> owner = literals.putIfAbsent(key, node);
+            if (owner != null && owner != node) {
+                ImperatDebugger.warning("Alias '%s' of sub-command '%s' of '%s' is already taken by sub-command '%s', it's ignored",
+                    key, command.name(), data.name(), owner.data.name());
+            }
+        }
+    }
+
+    /**
+     * @return a new compiled node of this node and its whole subtree
+     */
+    @SuppressWarnings("unchecked")
+    ParameterNode<S, ?> compile() {
+        ParameterNode<S, ?>[] compiled = (ParameterNode<S, ?>[]) new ParameterNode<?, ?>[children.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = children.get(i).compile();
+        }
+        return data.isCommand()
+            ? new CommandNode<>(data.asCommand(), compiled)
+            : new ArgumentNode<>(data, compiled);
+    }
+}
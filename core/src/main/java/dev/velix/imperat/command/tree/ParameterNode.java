@@ -1,24 +1,69 @@
 package dev.velix.imperat.command.tree;
 
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.context.ParsedArguments;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Comparator;
-import java.util.PriorityQueue;
+import java.util.*;
 import java.util.function.Predicate;
 
+/**
+ * A node of a compiled {@link CommandTree}, it's immutable once created,
+ * a tree getting new usages is compiled into new nodes instead.
+ */
 public abstract class ParameterNode<S extends Source, T extends CommandParameter<S>> {
 
     protected final @NotNull T data;
 
-    private final PriorityQueue<ParameterNode<S, ?>> nextNodes = new PriorityQueue<>(
-        Comparator.comparing(ParameterNode::priority)
-    );
+    //children sorted by priority, and the non-literal ones alone
+    private final ParameterNode<S, ?>[] children;
+    private final ParameterNode<S, ?>[] argumentChildren;
+    private final List<ParameterNode<S, ?>> childrenView;
 
-    protected ParameterNode(@NotNull T data) {
+    //literal children (sub-commands) indexed by their lower-cased names and aliases
+    private final Map<String, CommandNode<S>> literalNodes;
+
+    private final boolean leaf, optional, greedy;
+
+    /**
+     * @param data     the parameter of the node
+     * @param children the children of the node, in the order they were added
+     */
+    @SuppressWarnings("unchecked")
+    protected ParameterNode(@NotNull T data, ParameterNode<S, ?>[] children) {
         this.data = data;
+
+        ParameterNode<S, ?>[] sorted = children.clone();
+        //stable, the children of the same priority keep their order
+        Arrays.sort(sorted, Comparator.comparingInt(ParameterNode::priority));
+
+        List<ParameterNode<S, ?>> arguments = new ArrayList<>(sorted.length);
+        Map<String, CommandNode<S>> literals = new HashMap<>();
+        for (ParameterNode<S, ?> child : sorted) {
+            if (child instanceof CommandNode<?> literal) {
+                literals.put(literal.data.name().toLowerCase(), (CommandNode<S>) literal);
+            } else {
+                arguments.add(child);
+            }
+        }
+        //names take priority over aliases, an alias only goes to the first sibling having it
+        for (ParameterNode<S, ?> child : sorted) {
+            if (child instanceof CommandNode<?> literal) {
+                for (String alias : literal.data.aliases()) {
+                    literals.putIfAbsent(alias.toLowerCase(), (CommandNode<S>) literal);
+                }
+            }
+        }
+
+        this.children = sorted;
+        this.argumentChildren = arguments.toArray((ParameterNode<S, ?>[]) new ParameterNode<?, ?>[0]);
+        this.childrenView = Collections.unmodifiableList(Arrays.asList(sorted));
+        this.literalNodes = Map.copyOf(literals);
+        this.leaf = sorted.length == 0;
+        this.optional = (this instanceof ArgumentNode<?>) && data.isOptional();
+        this.greedy = (this instanceof ArgumentNode<?>) && data.isGreedy();
     }
 
     @NotNull
@@ -26,35 +71,67 @@ public abstract class ParameterNode<S extends Source, T extends CommandParameter
         return data;
     }
 
-    public void addChild(ParameterNode<S, ?> node) {
-        if (nextNodes.contains(node)) return;
-        nextNodes.add(node);
+    public Iterable<? extends ParameterNode<S, ?>> getChildren() {
+        return childrenView;
     }
 
-    public Iterable<? extends ParameterNode<S, ?>> getChildren() {
-        return nextNodes;
+    /**
+     * @return the children sorted by priority, must not be modified
+     */
+    ParameterNode<S, ?>[] getChildrenArray() {
+        return children;
+    }
+
+    /**
+     * Fetches the literal (sub-command) child matching the raw input
+     * by its name or one of its aliases, using a single hash lookup.
+     *
+     * @param raw the raw input
+     * @return the literal child node, null if none matches the input
+     */
+    public @Nullable CommandNode<S> getLiteralChild(String raw) {
+        if (literalNodes.isEmpty()) return null;
+        return literalNodes.get(raw.toLowerCase());
+    }
+
+    /**
+     * @return the non-literal children sorted by priority, must not be modified
+     */
+    ParameterNode<S, ?>[] getArgumentChildren() {
+        return argumentChildren;
     }
 
     public abstract boolean matchesInput(String input);
 
+    /**
+     * Matches the input like {@link #matchesInput(String)}, remembering what it got parsed into, if anything
+     *
+     * @param input  the raw input
+     * @param parsed the arguments parsed so far in the dispatch
+     * @return whether the input matches this node
+     */
+    public boolean matchesInput(String input, ParsedArguments parsed) {
+        return matchesInput(input);
+    }
+
     public abstract String format();
 
     public boolean isLeaf() {
-        return nextNodes.isEmpty();
+        return leaf;
     }
 
     public abstract int priority();
 
     public boolean isGreedyParam() {
-        return (this instanceof ArgumentNode<?> param) && param.data.isGreedy();
+        return greedy;
     }
 
     public boolean isOptional() {
-        return (this instanceof ArgumentNode<?> param) && param.data.isOptional();
+        return optional;
     }
 
     public @Nullable ParameterNode<S, ?> getChild(Predicate<ParameterNode<S, ?>> predicate) {
-        for (var child : getChildren()) {
+        for (var child : children) {
             if (predicate.test(child)) {
                 return child;
             }
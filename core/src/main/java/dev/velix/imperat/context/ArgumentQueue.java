@@ -14,7 +14,9 @@ import java.util.List;
 public interface ArgumentQueue extends Deque<String>, List<String>, Cloneable {
 
     static ArgumentQueue parse(String[] rawArguments) {
-        return StringUtils.parseToQueue(String.join(" ", rawArguments), false);
+        ArgumentQueue queue = empty();
+        StringUtils.tokenize(rawArguments, queue);
+        return queue;
     }
 
     static ArgumentQueue parse(String string) {
@@ -22,23 +24,15 @@ public interface ArgumentQueue extends Deque<String>, List<String>, Cloneable {
     }
 
     static ArgumentQueue parseAutoCompletion(String[] argumentsOnly, boolean extraLastSpace) {
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < argumentsOnly.length; i++) {
-            var arg = argumentsOnly[i];
-            builder.append(arg);
-            if (!extraLastSpace) {
-                if (i != argumentsOnly.length - 1)
-                    builder.append(" ");
-            } else
-                builder.append(" ");
+        ArgumentQueue queue = empty();
+        StringUtils.tokenize(argumentsOnly, queue);
+        if (extraLastSpace && argumentsOnly.length > 0) {
+            queue.add(" ");
         }
-        return parseAutoCompletion(builder.toString(), extraLastSpace);
+        return queue;
     }
 
     static ArgumentQueue parseAutoCompletion(String string, boolean extraLastSpace) {
-        if (string.isEmpty()) {
-            return StringUtils.parseToQueue("", true);
-        }
         return StringUtils.parseToQueue(string, true, extraLastSpace);
     }
 
@@ -31,4 +31,12 @@ public interface Context<S extends Source> {
      */
     ArgumentQueue arguments();
 
+    /**
+     * @return the arguments as parsed while matching them against the command tree,
+     * reused when resolving them
+     */
+    @ApiStatus.Internal
+    @NotNull
+    ParsedArguments parsedArguments();
+
 }
@@ -51,7 +51,10 @@ public final class ParamTypeRegistry<S extends Source> extends Registry<Type, Pa
         //TODO make check for enum
         return Optional.ofNullable(getData(TypeUtility.primitiveToBoxed(type)).orElseGet(() -> {
             if (TypeUtility.areRelatedTypes(type, Enum.class)) {
-                return genericEnumType;
+                //the constants are looked up in the enum itself, when it's known
+                return type instanceof Class<?> enumType && enumType.isEnum()
+                    ? ParameterTypes.enumeration((Class<? extends Enum<?>>) enumType)
+                    : genericEnumType;
             }
 
             for (var registeredType : getKeys()) {
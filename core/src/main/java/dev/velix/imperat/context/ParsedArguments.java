@@ -0,0 +1,167 @@
+package dev.velix.imperat.context;
+
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.type.DoubleParameterType;
+import dev.velix.imperat.command.parameters.type.FloatParameterType;
+import dev.velix.imperat.command.parameters.type.IntParameterType;
+import dev.velix.imperat.command.parameters.type.LongParameterType;
+import dev.velix.imperat.command.parameters.type.ParameterType;
+import dev.velix.imperat.command.parameters.type.ResolveResult;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * The arguments of a single dispatch, as parsed while matching them against the command tree,
+ * so that resolving them afterwards reuses the values instead of parsing them again.
+ * <p>
+ * An argument is parsed at most once per {@link ParameterType}, value type and raw input,
+ * whatever the number of tree nodes trying it, through {@link ParameterType#tryParse(String, CommandParameter)}.
+ * The types that don't parse while matching are matched through {@link ParameterType#matchesInput(String, CommandParameter)}
+ * as usual.
+ * <p>
+ * The numeric types parsing primitives, like {@link IntParameterType}, are matched through
+ * {@link ParameterType#matchesInput(String, CommandParameter)} then parsed into primitives kept unboxed,
+ * only boxed once resolved, so that the candidates tried while matching allocate nothing.
+ * <p>
+ * A dispatch only has a handful of arguments, they're kept in plain arrays searched linearly.
+ * It's confined to the dispatching thread.
+ */
+@ApiStatus.Internal
+public final class ParsedArguments {
+
+    //how an argument got parsed, into a result or a primitive
+    private static final byte RESULT = 0, FAILED = 1, INT = 2, LONG = 3, FLOAT = 4, DOUBLE = 5;
+
+    //allocated with the first parsed argument
+    private ParameterType<?, ?>[] types;
+    private Type[] valueTypes;
+    private String[] raws;
+    private ResolveResult<?>[] results;
+    private byte[] kinds;
+    //the primitive values, floating ones as their bits
+    private long[] primitives;
+    private int size = 0;
+
+    /**
+     * @param parameter the parameter of the node trying the input
+     * @param raw       the raw input
+     * @return whether the input matches the parameter's type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean matches(@NotNull CommandParameter<?> parameter, @NotNull String raw) {
+        int index = indexOf(parameter, raw);
+        if (index >= 0) {
+            return kinds[index] == RESULT ? results[index].isSuccess() : kinds[index] != FAILED;
+        }
+        ParameterType type = parameter.type();
+        byte kind = primitiveKind(type);
+        if (kind != RESULT) {
+            if (!type.matchesInput(raw, parameter)) {
+                add(parameter, raw, FAILED, null, 0L);
+                return false;
+            }
+            add(parameter, raw, kind, null, parsePrimitive(type, kind, raw));
+            return true;
+        }
+        ResolveResult<?> result = type.tryParse(raw, parameter);
+        if (result == null) {
+            //the type's matching may depend on the parameter, it's not remembered
+            return type.matchesInput(raw, parameter);
+        }
+        add(parameter, raw, RESULT, result, 0L);
+        return result.isSuccess();
+    }
+
+    /**
+     * @param parameter the parameter being resolved
+     * @param raw       the raw input
+     * @param <T>       the type of the value
+     * @return the value parsed while matching the input, null if it wasn't parsed or failed to
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable ResolveResult<T> parsed(@NotNull CommandParameter<?> parameter, @NotNull String raw) {
+        if (size == 0) {
+            return null;
+        }
+        int index = indexOf(parameter, raw);
+        if (index < 0 || kinds[index] == FAILED) {
+            return null;
+        }
+        if (kinds[index] != RESULT) {
+            //boxed once, as the value gets resolved
+            results[index] = ResolveResult.success(box(kinds[index], primitives[index]));
+            kinds[index] = RESULT;
+        }
+        ResolveResult<?> result = results[index];
+        return result.isSuccess() ? (ResolveResult<T>) result : null;
+    }
+
+    private int indexOf(CommandParameter<?> parameter, String raw) {
+        ParameterType<?, ?> type = parameter.type();
+        Type valueType = parameter.valueType();
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type && valueTypes[i].equals(valueType) && raws[i].equals(raw)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte primitiveKind(ParameterType<?, ?> type) {
+        if (type instanceof IntParameterType<?>) return INT;
+        if (type instanceof LongParameterType<?>) return LONG;
+        if (type instanceof FloatParameterType<?>) return FLOAT;
+        if (type instanceof DoubleParameterType<?>) return DOUBLE;
+        return RESULT;
+    }
+
+    private static long parsePrimitive(ParameterType<?, ?> type, byte kind, String raw) {
+        return switch (kind) {
+            case INT -> ((IntParameterType<?>) type).resolveInt(raw);
+            case LONG -> ((LongParameterType<?>) type).resolveLong(raw);
+            case FLOAT -> Double.doubleToRawLongBits(((FloatParameterType<?>) type).resolveFloat(raw));
+            case DOUBLE -> Double.doubleToRawLongBits(((DoubleParameterType<?>) type).resolveDouble(raw));
+            default -> throw new IllegalArgumentException("Not a primitive kind: " + kind);
+        };
+    }
+
+    private static Object box(byte kind, long value) {
+        return switch (kind) {
+            case INT -> (int) value;
+            case LONG -> value;
+            case FLOAT -> (float) Double.longBitsToDouble(value);
+            case DOUBLE -> Double.longBitsToDouble(value);
+            default -> throw new IllegalArgumentException("Not a primitive kind: " + kind);
+        };
+    }
+
+    private void add(CommandParameter<?> parameter, String raw, byte kind, @Nullable ResolveResult<?> result, long primitive) {
+        if (types == null) {
+            types = new ParameterType<?, ?>[4];
+            valueTypes = new Type[4];
+            raws = new String[4];
+            results = new ResolveResult<?>[4];
+            kinds = new byte[4];
+            primitives = new long[4];
+        } else if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            valueTypes = Arrays.copyOf(valueTypes, capacity);
+            raws = Arrays.copyOf(raws, capacity);
+            results = Arrays.copyOf(results, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            primitives = Arrays.copyOf(primitives, capacity);
+        }
+        types[size] = parameter.type();
+        valueTypes[size] = parameter.valueType();
+        raws[size] = raw;
+        results[size] = result;
+        kinds[size] = kind;
+        primitives[size] = primitive;
+        size++;
+    }
+}
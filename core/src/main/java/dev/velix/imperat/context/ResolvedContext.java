@@ -35,6 +35,21 @@ public interface ResolvedContext<S extends Source> extends ExecutionContext<S> {
      */
     void resolve() throws ImperatException;
 
+    /**
+     * Resolves the arguments from the given plain input {@link Context},
+     * returning the error instead of throwing it.
+     *
+     * @return the error to report to the source, null if the arguments got resolved
+     */
+    default @Nullable ImperatException tryResolve() {
+        try {
+            resolve();
+            return null;
+        } catch (ImperatException ex) {
+            return ex;
+        }
+    }
+
     /**
      * Fetches the arguments of a command/subcommand that got resolved
      * except for the arguments that represent the literal/subcommand name arguments
@@ -2,6 +2,9 @@ package dev.velix.imperat.context;
 
 import org.jetbrains.annotations.ApiStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 /**
  * Represents the sender/source
  * of a command being executed
@@ -15,6 +18,18 @@ public interface Source {
      */
     String name();
 
+    /**
+     * A stable identity of the source, that stays the same across
+     * the wrapper objects created for it on every command.
+     * Platforms override it with the unique id of the player behind the source,
+     * by default it's derived from the {@link #name()}.
+     *
+     * @return the unique id of a command source
+     */
+    default UUID uuid() {
+        return UUID.nameUUIDFromBytes(name().getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * @return The original command sender valueType instance
      */
@@ -4,6 +4,7 @@ import dev.velix.imperat.Imperat;
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.context.ArgumentQueue;
 import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.ParsedArguments;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.NotNull;
 
@@ -16,12 +17,18 @@ class ContextImpl<S extends Source> implements Context<S> {
     private final Command<S> commandUsed;
     private final S source;
     private final ArgumentQueue raw;
+    private final ParsedArguments parsedArguments;
 
     public ContextImpl(Imperat<S> dispatcher, Command<S> commandUsed, S source, ArgumentQueue raw) {
+        this(dispatcher, commandUsed, source, raw, new ParsedArguments());
+    }
+
+    ContextImpl(Imperat<S> dispatcher, Command<S> commandUsed, S source, ArgumentQueue raw, ParsedArguments parsedArguments) {
         this.dispatcher = dispatcher;
         this.commandUsed = commandUsed;
         this.source = source;
         this.raw = raw;
+        this.parsedArguments = parsedArguments;
     }
 
     @Override
@@ -39,6 +46,11 @@ class ContextImpl<S extends Source> implements Context<S> {
         return raw;
     }
 
+    @Override
+    public @NotNull ParsedArguments parsedArguments() {
+        return parsedArguments;
+    }
+
     public Imperat<S> getDispatcher() {
         return this.dispatcher;
     }
@@ -13,7 +13,6 @@ import dev.velix.imperat.exception.ImperatException;
 import dev.velix.imperat.exception.NumberOutOfRangeException;
 import dev.velix.imperat.resolvers.ContextResolver;
 import dev.velix.imperat.util.Registry;
-import dev.velix.imperat.util.TypeUtility;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -49,7 +48,8 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
         Context<S> context,
         CommandUsage<S> usage
     ) {
-        super(dispatcher, context.command(), context.source(), context.arguments());
+        //shares the arguments parsed while matching the context
+        super(dispatcher, context.command(), context.source(), context.arguments(), context.parsedArguments());
         this.lastCommand = context.command();
         this.usage = usage;
     }
@@ -181,6 +181,17 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
         this.lastCommand = sur.getCommand();
     }
 
+    @Override
+    public @Nullable ImperatException tryResolve() {
+        if (arguments().isEmpty())
+            return null;
+
+        SmartUsageResolve<S> sur = SmartUsageResolve.create(command(), this, usage);
+        ImperatException error = sur.tryResolve();
+        this.lastCommand = sur.getCommand();
+        return error;
+    }
+
 
     @Override
     public <T> void resolveArgument(
@@ -191,13 +202,13 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
         @Nullable T value
     ) throws ImperatException {
 
-        if (value != null && TypeUtility.isNumericType(value.getClass())
+        if (value instanceof Number number
             && parameter instanceof NumericParameter<S> numericParameter
             && numericParameter.hasRange()
-            && !numericParameter.matchesRange((Number) value)) {
+            && !matchesRange(numericParameter, number)) {
 
             NumericRange range = numericParameter.getRange();
-            throw new NumberOutOfRangeException(numericParameter, (Number) value, range);
+            throw new NumberOutOfRangeException(numericParameter, number, range);
         }
         final Argument<S> argument = new Argument<>(raw, parameter, index, value);
         resolvedArgumentsPerCommand.update(command, (existingResolvedArgs) -> {
@@ -209,6 +220,14 @@ final class ResolvedContextImpl<S extends Source> extends ContextImpl<S> impleme
         allResolvedArgs.setData(parameter.name(), argument);
     }
 
+    //integral values are compared as longs, widening them to doubles would round the large ones
+    private static boolean matchesRange(NumericParameter<?> parameter, Number number) {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return parameter.matchesRange(number.longValue());
+        }
+        return parameter.matchesRange(number.doubleValue());
+    }
+
     @Override
     public void resolveFlag(CommandFlag flag) {
         flagRegistry.setData(flag.flag().name(), flag);
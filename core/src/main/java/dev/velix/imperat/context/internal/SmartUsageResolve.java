@@ -4,6 +4,7 @@ import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.command.parameters.CommandParameter;
 import dev.velix.imperat.command.parameters.FlagParameter;
+import dev.velix.imperat.command.parameters.type.ResolveResult;
 import dev.velix.imperat.context.Context;
 import dev.velix.imperat.context.FlagData;
 import dev.velix.imperat.context.ResolvedContext;
@@ -55,6 +56,26 @@ final class SmartUsageResolve<S extends Source> {
     }
 
     public void resolve() throws ImperatException {
+        ImperatException error = tryResolve();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Resolves the arguments, returning the first error instead of throwing it.
+     *
+     * @return the error to report, null if every argument got resolved
+     */
+    public @Nullable ImperatException tryResolve() {
+        try {
+            return resolveArguments();
+        } catch (ImperatException ex) {
+            return ex;
+        }
+    }
+
+    private @Nullable ImperatException resolveArguments() throws ImperatException {
 
         final int lengthWithoutFlags = usage.getParametersWithoutFlags().size();
         while (stream.hasNextParameter()) {
@@ -82,7 +103,7 @@ final class SmartUsageResolve<S extends Source> {
             if (currentParameter.isCommand()) {
                 Command<S> parameterSubCmd = (Command<S>) currentParameter;
                 if (parameterSubCmd.hasName(currentRaw)) this.command = parameterSubCmd;
-                else throw new SourceException("Unknown sub-command '" + currentRaw + "'");
+                else return new SourceException("Unknown sub-command '" + currentRaw + "'");
                 stream.skip();
                 continue;
             }
@@ -105,7 +126,15 @@ final class SmartUsageResolve<S extends Source> {
             }
             //TODO fix the infinity error
             //ImperatDebugger.debug("FLAG DETECTED=`%s`, current-raw=`%s`, current-param=`%s`", (flag == null ? null : flag.name()), currentRaw, currentParameter.name());
-            var value = currentParameter.type().resolve(context, stream);
+            //reusing the value parsed while matching the tree, if any
+            ResolveResult<?> resolved = context.parsedArguments().parsed(currentParameter, currentRaw);
+            if (resolved == null) {
+                resolved = currentParameter.type().tryResolve(context, stream);
+            }
+            if (!resolved.isSuccess()) {
+                return resolved.error();
+            }
+            var value = resolved.value();
             //ImperatDebugger.debug("AfterResolve >> current-raw=`%s`, current-param=`%s`", currentRaw, currentParameter.name());
             if (value instanceof CommandFlag commandFlag) {
                 context.resolveFlag(commandFlag);
@@ -125,7 +154,7 @@ final class SmartUsageResolve<S extends Source> {
 
 
         }
-
+        return null;
     }
 
 
@@ -2,7 +2,51 @@ package dev.velix.imperat.exception;
 
 import org.jetbrains.annotations.ApiStatus;
 
+/**
+ * The base of the exceptions reporting a user error during a dispatch
+ * (e.g: invalid input, missing permission), handled by a {@link ThrowableResolver}.
+ * <p>
+ * As they're thrown on the normal path of a failed dispatch, they don't capture
+ * their stack trace, which is most of the cost of creating an exception.
+ * Stack traces can be turned back on for debugging, see {@link #setStackTraces(boolean)}
+ * or the system property {@value #STACK_TRACES_PROPERTY}.
+ */
 @ApiStatus.AvailableSince("1.0.0")
 public class ImperatException extends Exception {
 
+    public static final String STACK_TRACES_PROPERTY = "imperat.exceptions.stacktraces";
+
+    private static volatile boolean stackTraces = Boolean.getBoolean(STACK_TRACES_PROPERTY);
+
+    public ImperatException() {
+        super();
+    }
+
+    public ImperatException(String message) {
+        super(message);
+    }
+
+    public ImperatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * @return whether the exceptions created from now on capture their stack trace
+     */
+    public static boolean hasStackTraces() {
+        return stackTraces;
+    }
+
+    /**
+     * @param enabled whether the exceptions created from now on should capture their stack trace
+     */
+    public static void setStackTraces(boolean enabled) {
+        stackTraces = enabled;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return stackTraces ? super.fillInStackTrace() : this;
+    }
+
 }
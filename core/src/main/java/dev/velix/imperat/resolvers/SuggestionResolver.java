@@ -2,6 +2,7 @@ package dev.velix.imperat.resolvers;
 
 import dev.velix.imperat.command.Command;
 import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.PrefixIndex;
 import dev.velix.imperat.context.Source;
 import dev.velix.imperat.context.SuggestionContext;
 import dev.velix.imperat.util.TypeWrap;
@@ -9,10 +10,11 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Represents a suggestion providing interface
@@ -29,7 +31,7 @@ public interface SuggestionResolver<S extends Source> {
     }
 
     static <S extends Source> SuggestionResolver<S> plain(String... results) {
-        return plain(Arrays.asList(results));
+        return plain(PrefixIndex.of(results));
     }
 
     static <S extends Source> TypeSuggestionResolver<S, Command<S>> forCommand(Command<S> command) {
@@ -60,11 +62,11 @@ public interface SuggestionResolver<S extends Source> {
     }
 
     static <S extends Source, T> TypeSuggestionResolver<S, T> type(Class<T> type, String... results) {
-        return type(type, List.of(results));
+        return type(type, PrefixIndex.of(results));
     }
 
     static <S extends Source, T> TypeSuggestionResolver<S, T> type(TypeWrap<T> type, String... results) {
-        return type(type, List.of(results));
+        return type(type, PrefixIndex.of(results));
     }
 
     /**
@@ -74,7 +76,35 @@ public interface SuggestionResolver<S extends Source> {
      */
     Collection<String> autoComplete(SuggestionContext<S> context, CommandParameter<S> parameter);
 
+    /**
+     * Completes the suggestions of the current argument, resolvers that are
+     * asynchronous on their own (e.g: querying a database) should override it.
+     * By default, it completes on the calling thread.
+     *
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @return the future auto-completed suggestions of the current argument
+     */
     default CompletableFuture<Collection<String>> asyncAutoComplete(SuggestionContext<S> context, CommandParameter<S> parameter) {
-        return CompletableFuture.supplyAsync(() -> autoComplete(context, parameter));
+        return CompletableFuture.completedFuture(autoComplete(context, parameter));
+    }
+
+    /**
+     * Completes the suggestions of the current argument on the given executor,
+     * this is the method called on tab-completion, it moves onto the executor
+     * then completes through {@link #asyncAutoComplete(SuggestionContext, CommandParameter)}.
+     *
+     * @param context   the context for suggestions
+     * @param parameter the parameter of the value to complete
+     * @param executor  the suggestion executor of the command dispatcher
+     * @return the future auto-completed suggestions of the current argument
+     */
+    default CompletableFuture<Collection<String>> asyncAutoComplete(
+        SuggestionContext<S> context,
+        CommandParameter<S> parameter,
+        Executor executor
+    ) {
+        return CompletableFuture.supplyAsync(() -> asyncAutoComplete(context, parameter), executor)
+            .thenCompose(Function.identity());
     }
 }
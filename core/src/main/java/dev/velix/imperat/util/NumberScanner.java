@@ -0,0 +1,144 @@
+package dev.velix.imperat.util;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Validates and scans numbers from raw input without throwing,
+ * as invalid numeric input is common and throwing a {@link NumberFormatException} for it is costly.
+ * <p>
+ * Only plain ASCII decimal notation is accepted: an optional sign followed by digits for integers,
+ * and for decimals an optional fraction and exponent, an optional {@code f/F/d/D} suffix, or
+ * {@code NaN}/{@code Infinity}. Input accepted here never makes the matching
+ * {@code parseXxx} method of the JDK throw.
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public final class NumberScanner {
+
+    /**
+     * Returned by {@link #scanInt(CharSequence)} for input that isn't a valid int,
+     * it's outside the int range so it can't be mistaken for one.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private NumberScanner() {
+    }
+
+    /**
+     * @param input the input
+     * @return the int value of the input, or {@link #INVALID} if it isn't a valid int
+     */
+    public static long scanInt(CharSequence input) {
+        return scanIntegral(input, Integer.MIN_VALUE, -Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param input the input
+     * @return whether the input is a valid int
+     */
+    public static boolean isInt(CharSequence input) {
+        return scanInt(input) != INVALID;
+    }
+
+    /**
+     * @param input the input
+     * @return whether the input is a valid long
+     */
+    public static boolean isLong(CharSequence input) {
+        int length = input.length();
+        if (length == 0) return false;
+
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == length) return false;
+        }
+
+        //accumulating negatively, as the negative range is the widest
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyMin) return false;
+            result *= 10;
+            if (result < limit + digit) return false;
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * @param input the input
+     * @return whether the input is a valid double or float
+     */
+    public static boolean isDecimal(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        if (length > 0 && (input.charAt(0) == '-' || input.charAt(0) == '+')) {
+            i++;
+        }
+        if (regionEquals(input, i, "NaN") || regionEquals(input, i, "Infinity")) {
+            return true;
+        }
+
+        int digits = 0;
+        for (; i < length && isDigit(input.charAt(i)); i++) digits++;
+        if (i < length && input.charAt(i) == '.') {
+            i++;
+            for (; i < length && isDigit(input.charAt(i)); i++) digits++;
+        }
+        if (digits == 0) return false;
+
+        if (i < length && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (input.charAt(i) == '-' || input.charAt(i) == '+')) i++;
+            int exponentDigits = 0;
+            for (; i < length && isDigit(input.charAt(i)); i++) exponentDigits++;
+            if (exponentDigits == 0) return false;
+        }
+
+        if (i == length - 1) {
+            char suffix = input.charAt(i);
+            if (suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D') i++;
+        }
+        return i == length;
+    }
+
+    private static long scanIntegral(CharSequence input, long negativeLimit, long positiveLimit) {
+        int length = input.length();
+        if (length == 0) return INVALID;
+
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++i == length) return INVALID;
+        }
+
+        //the limits are within the int range, so the long accumulator never overflows
+        final long limit = negative ? negativeLimit : positiveLimit;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return INVALID;
+            result = result * 10 - digit;
+            if (result < limit) return INVALID;
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean regionEquals(CharSequence input, int offset, String expected) {
+        if (input.length() - offset != expected.length()) return false;
+        for (int i = 0; i < expected.length(); i++) {
+            if (input.charAt(offset + i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+}
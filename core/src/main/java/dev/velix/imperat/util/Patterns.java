@@ -12,7 +12,42 @@ public final class Patterns {
     }
 
     public static boolean isInputFlag(String input) {
-        return SINGLE_FLAG.matcher(input).matches() || DOUBLE_FLAG.matcher(input).matches();
+        return isFlagCandidate(input);
+    }
+
+    /**
+     * Checks whether the input is shaped like a flag, the same way
+     * {@link #SINGLE_FLAG} and {@link #DOUBLE_FLAG} would, without any regex.
+     *
+     * @param input the raw input
+     * @return whether the input is a '-' or '--' followed by letters only
+     */
+    public static boolean isFlagCandidate(CharSequence input) {
+        return flagPrefixLength(input) != 0;
+    }
+
+    /**
+     * @param input the raw input
+     * @return the length of the input's flag prefix ('-' or '--'),
+     * or 0 if the input isn't shaped like a flag
+     * @see #isFlagCandidate(CharSequence)
+     */
+    public static int flagPrefixLength(CharSequence input) {
+        final int length = input.length();
+        if (length < 2 || input.charAt(0) != '-') {
+            return 0;
+        }
+        int start = input.charAt(1) == '-' ? 2 : 1;
+        if (start == length) {
+            return 0;
+        }
+        for (int i = start; i < length; i++) {
+            char c = input.charAt(i);
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                return 0;
+            }
+        }
+        return start;
     }
 
 
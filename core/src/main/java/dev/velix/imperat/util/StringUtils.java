@@ -4,7 +4,7 @@ import dev.velix.imperat.context.ArgumentQueue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,13 +48,10 @@ public final class StringUtils {
     }
 
     public static ArgumentQueue parseToQueue(String argumentsInOneLine, boolean autoCompletion, boolean extraSpace) {
-        if (argumentsInOneLine.isEmpty())
-            return !autoCompletion ? ArgumentQueue.empty() : ArgumentQueue.parse(" ");
-
         ArgumentQueue toCollect = ArgumentQueue.empty();
-        toCollect.addAll(Arrays.asList(argumentsInOneLine.split(" ")));
+        tokenize(argumentsInOneLine, 0, toCollect);
 
-        if (autoCompletion && extraSpace)
+        if (autoCompletion && extraSpace && !argumentsInOneLine.isEmpty())
             toCollect.add(" ");
 
         return toCollect;
@@ -63,5 +60,69 @@ public final class StringUtils {
     public static ArgumentQueue parseToQueue(String argumentsInOneLine, boolean autoCompletion) {
         return parseToQueue(argumentsInOneLine, autoCompletion, false);
     }
-}
 
+    /**
+     * Splits the input into space separated tokens in a single pass, adding each
+     * token directly to the output without any intermediate arrays.
+     * Repeated spaces are skipped, and a token starting with a quote keeps
+     * everything up to its matching closing quote (quotes included) as one token,
+     * as long as that quote ends a word; otherwise it's split like any other word.
+     *
+     * @param input the input to tokenize
+     * @param from  the index to start tokenizing from
+     * @param out   the collection to add the tokens to
+     */
+    public static void tokenize(@NotNull String input, int from, @NotNull Collection<? super String> out) {
+        final int length = input.length();
+        int index = from;
+        while (index < length) {
+            char ch = input.charAt(index);
+            if (ch == ' ') {
+                index++;
+                continue;
+            }
+
+            int end = isQuoteChar(ch) ? closingQuoteEnd(input, index, ch) : -1;
+            if (end == -1) {
+                end = input.indexOf(' ', index);
+                if (end == -1) end = length;
+            }
+            out.add(input.substring(index, end));
+            index = end;
+        }
+    }
+
+    /**
+     * Tokenizes each of the raw arguments, only joining them when one of them
+     * opens a quote that may span over the next arguments.
+     *
+     * @param rawArguments the raw arguments
+     * @param out          the collection to add the tokens to
+     */
+    public static void tokenize(@NotNull String[] rawArguments, @NotNull Collection<? super String> out) {
+        for (String raw : rawArguments) {
+            if (!raw.isEmpty() && isQuoteChar(raw.charAt(0))) {
+                tokenize(String.join(" ", rawArguments), 0, out);
+                return;
+            }
+        }
+        for (String raw : rawArguments) {
+            tokenize(raw, 0, out);
+        }
+    }
+
+    private static int closingQuoteEnd(String input, int start, char quote) {
+        int closing = input.indexOf(quote, start + 1);
+        while (closing != -1) {
+            if (closing + 1 == input.length() || input.charAt(closing + 1) == ' ') {
+                return closing + 1;
+            }
+            closing = input.indexOf(quote, closing + 1);
+        }
+        return -1;
+    }
+
+    private static boolean isQuoteChar(char ch) {
+        return ch == '"' || ch == '\'';
+    }
+}
@@ -38,13 +38,7 @@ public final class TypeUtility {
     }
 
     public static boolean isInteger(String string) {
-        if (string == null) return false;
-        try {
-            Integer.parseInt(string);
-            return true;
-        } catch (NumberFormatException ex) {
-            return false;
-        }
+        return string != null && NumberScanner.isInt(string);
     }
 
     public static boolean isBoolean(String string) {
@@ -53,32 +47,15 @@ public final class TypeUtility {
     }
 
     public static boolean isFloat(String input) {
-        try {
-            Float.parseFloat(input);
-            return true;
-        } catch (Exception ex) {
-            return false;
-        }
+        return input != null && NumberScanner.isDecimal(input);
     }
 
     public static boolean isDouble(String str) {
-        if (str == null) return false;
-        try {
-            Double.parseDouble(str);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return str != null && NumberScanner.isDecimal(str);
     }
 
     public static boolean isLong(String str) {
-        if (str == null) return false;
-        try {
-            Long.parseLong(str);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return str != null && NumberScanner.isLong(str);
     }
 
     public static boolean isNumericType(Class<?> type) {
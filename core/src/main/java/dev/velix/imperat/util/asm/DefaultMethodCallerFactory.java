@@ -33,7 +33,7 @@ public final class DefaultMethodCallerFactory implements MethodCallerFactory {
 
     @Override
     public @NotNull MethodCaller createFor(@NotNull Method method) throws Throwable {
-        return MethodCallerFactory.methodHandles().createFor(method);
+        return MethodCallerFactory.lambdas().createFor(method);
     }
 
 }
@@ -0,0 +1,131 @@
+package dev.velix.imperat.util.asm;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * A {@link MethodCallerFactory} spinning, through the {@link LambdaMetafactory},
+ * a dedicated invoker class per method, which calls the method directly
+ * with a fixed number of arguments, as a lambda would.
+ * <p>
+ * Bound callers capture their receiver inside the invoker, so calling them
+ * is a plain interface call followed by the method call itself,
+ * without any boxing of the arguments into lists or spreading.
+ * <p>
+ * Methods taking more than {@link LambdaInvokers#MAX_ARITY} arguments,
+ * or declared in classes the invokers can't be defined for, are called
+ * through the method handles API instead.
+ */
+final class LambdaCallerFactory implements MethodCallerFactory {
+
+    public static final LambdaCallerFactory INSTANCE = new LambdaCallerFactory();
+
+    private static final String INVOKE = "invoke";
+
+    @Override
+    public @NotNull MethodCaller createFor(@NotNull Method method) throws Throwable {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        int arity = method.getParameterCount() + (isStatic ? 0 : 1);
+        if (arity > LambdaInvokers.MAX_ARITY) {
+            return MethodCallerFactory.methodHandles().createFor(method);
+        }
+
+        MethodHandles.Lookup lookup;
+        MethodHandle handle;
+        Object unbound;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+            unbound = spin(lookup, handle, null);
+        } catch (IllegalAccessException | LambdaConversionException | LinkageError | SecurityException ex) {
+            //e.g. the method's class loader can't see the invokers' interfaces
+            return MethodCallerFactory.methodHandles().createFor(method);
+        }
+        boolean returns = method.getReturnType() != void.class;
+        LambdaInvokers.Caller caller = LambdaInvokers.callerFor(unbound, returns, arity, method.toString());
+        return new LambdaCaller(method, lookup, handle, caller, isStatic, returns);
+    }
+
+    /**
+     * Spins the invoker of the given method handle.
+     *
+     * @param lookup   a lookup with private access to the method's class
+     * @param handle   the direct method handle to invoke
+     * @param receiver the receiver to capture in the invoker, or null to take it as the first argument
+     * @return the invoker, an instance of one of {@link LambdaInvokers}'s interfaces
+     */
+    private static Object spin(
+        MethodHandles.Lookup lookup,
+        MethodHandle handle,
+        @Nullable Object receiver
+    ) throws Throwable {
+        MethodType implType = handle.type();
+        MethodType instantiated = receiver == null ? implType : implType.dropParameterTypes(0, 1);
+        boolean returns = implType.returnType() != void.class;
+        Class<?> invokerType = LambdaInvokers.interfaceFor(returns, instantiated.parameterCount());
+
+        //primitives are boxed in the interface, the invoker unboxes them
+        MethodType boxed = instantiated.wrap();
+        MethodType generic = MethodType.genericMethodType(instantiated.parameterCount());
+        if (!returns) {
+            boxed = boxed.changeReturnType(void.class);
+            generic = generic.changeReturnType(void.class);
+        }
+        MethodType invokedType = receiver == null
+            ? MethodType.methodType(invokerType)
+            : MethodType.methodType(invokerType, implType.parameterType(0));
+
+        CallSite site = LambdaMetafactory.metafactory(
+            lookup, INVOKE, invokedType,
+            generic, handle, boxed
+        );
+        MethodHandle factory = site.getTarget();
+        return receiver == null ? factory.invoke() : factory.invoke(receiver);
+    }
+
+    private record LambdaCaller(
+        Method method,
+        MethodHandles.Lookup lookup,
+        MethodHandle handle,
+        LambdaInvokers.Caller caller,
+        boolean isStatic,
+        boolean returns
+    ) implements MethodCaller {
+
+        @Override
+        public Object call(@Nullable Object instance, Object... arguments) {
+            //the instance is handed over apart from the arguments, they're never copied
+            return isStatic ? caller.call(arguments) : caller.callOn(instance, arguments);
+        }
+
+        @Override
+        public BoundMethodCaller bindTo(@Nullable Object instance) {
+            if (isStatic) {
+                return caller;
+            }
+            if (instance == null) {
+                return MethodCaller.super.bindTo(null);
+            }
+            try {
+                Object bound = spin(lookup, handle, instance);
+                return LambdaInvokers.callerFor(bound, returns, handle.type().parameterCount() - 1, method.toString());
+            } catch (Throwable ex) {
+                return MethodCaller.super.bindTo(instance);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "LambdaCaller(" + method + ")";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaCallerFactory";
+    }
+}
@@ -0,0 +1,603 @@
+package dev.velix.imperat.util.asm;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The fixed-arity functional interfaces implemented by the invokers
+ * that {@link LambdaCallerFactory} spins through the {@code LambdaMetafactory}.
+ * <p>
+ * They have to be public, as the invokers are defined in the
+ * package of the class declaring the invoked method.
+ */
+@ApiStatus.Internal
+public final class LambdaInvokers {
+
+    /**
+     * The highest number of parameters an invoker can take, including
+     * the receiver when it's not bound.
+     */
+    public static final int MAX_ARITY = 8;
+
+    private LambdaInvokers() {
+    }
+
+    @FunctionalInterface
+    public interface Invoker0 {
+        Object invoke() throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker1 {
+        Object invoke(Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker2 {
+        Object invoke(Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker3 {
+        Object invoke(Object a0, Object a1, Object a2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker4 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker5 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker6 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker7 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface Invoker8 {
+        Object invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker0 {
+        void invoke() throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker1 {
+        void invoke(Object a0) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker2 {
+        void invoke(Object a0, Object a1) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker3 {
+        void invoke(Object a0, Object a1, Object a2) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker4 {
+        void invoke(Object a0, Object a1, Object a2, Object a3) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker5 {
+        void invoke(Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker6 {
+        void invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker7 {
+        void invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) throws Throwable;
+    }
+
+    @FunctionalInterface
+    public interface VoidInvoker8 {
+        void invoke(Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7) throws Throwable;
+    }
+
+    /**
+     * Wraps the invoker in the caller of its arity, picked once, so that calling it
+     * is a call on its own interface, without switching over the arity on every call.
+     *
+     * @param invoker the invoker, an instance of one of the interfaces above
+     * @param returns whether the invoked method returns a value
+     * @param arity   the number of parameters the invoker takes
+     * @param method  the description of the invoked method
+     * @return the caller of the invoker
+     */
+    static Caller callerFor(Object invoker, boolean returns, int arity, String method) {
+        if (returns) {
+            return switch (arity) {
+                case 0 -> new Caller0((Invoker0) invoker, method);
+                case 1 -> new Caller1((Invoker1) invoker, method);
+                case 2 -> new Caller2((Invoker2) invoker, method);
+                case 3 -> new Caller3((Invoker3) invoker, method);
+                case 4 -> new Caller4((Invoker4) invoker, method);
+                case 5 -> new Caller5((Invoker5) invoker, method);
+                case 6 -> new Caller6((Invoker6) invoker, method);
+                case 7 -> new Caller7((Invoker7) invoker, method);
+                case 8 -> new Caller8((Invoker8) invoker, method);
+                default -> throw new IllegalArgumentException("Invokers take up to " + MAX_ARITY + " arguments, got " + arity);
+            };
+        }
+        return switch (arity) {
+            case 0 -> new VoidCaller0((VoidInvoker0) invoker, method);
+            case 1 -> new VoidCaller1((VoidInvoker1) invoker, method);
+            case 2 -> new VoidCaller2((VoidInvoker2) invoker, method);
+            case 3 -> new VoidCaller3((VoidInvoker3) invoker, method);
+            case 4 -> new VoidCaller4((VoidInvoker4) invoker, method);
+            case 5 -> new VoidCaller5((VoidInvoker5) invoker, method);
+            case 6 -> new VoidCaller6((VoidInvoker6) invoker, method);
+            case 7 -> new VoidCaller7((VoidInvoker7) invoker, method);
+            case 8 -> new VoidCaller8((VoidInvoker8) invoker, method);
+            default -> throw new IllegalArgumentException("Invokers take up to " + MAX_ARITY + " arguments, got " + arity);
+        };
+    }
+
+    /**
+     * Calls an invoker of a fixed arity, with the arguments taken from an array.
+     * There's a caller class per invoker interface, each holding its invoker in a typed field.
+     */
+    abstract static class Caller implements MethodCaller.BoundMethodCaller {
+
+        private final String method;
+
+        Caller(String method) {
+            this.method = method;
+        }
+
+        /**
+         * @param a every argument of the invoker
+         * @return what the method returned, null if it's void
+         */
+        abstract Object invoke(Object[] a) throws Throwable;
+
+        /**
+         * @param receiver the first argument of the invoker, the instance to invoke the method on
+         * @param a        the other arguments of the invoker
+         * @return what the method returned, null if it's void
+         */
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            throw new UnsupportedOperationException("The invoker of " + method + " takes no receiver");
+        }
+
+        @Override
+        public final Object call(@NotNull Object... arguments) {
+            try {
+                return invoke(arguments);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        final Object callOn(@Nullable Object receiver, Object[] arguments) {
+            try {
+                return invokeOn(receiver, arguments);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(" + method + ")";
+        }
+    }
+
+    static final class Caller0 extends Caller {
+
+        private final Invoker0 invoker;
+
+        Caller0(Invoker0 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke();
+        }
+    }
+
+    static final class Caller1 extends Caller {
+
+        private final Invoker1 invoker;
+
+        Caller1(Invoker1 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver);
+        }
+    }
+
+    static final class Caller2 extends Caller {
+
+        private final Invoker2 invoker;
+
+        Caller2(Invoker2 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0]);
+        }
+    }
+
+    static final class Caller3 extends Caller {
+
+        private final Invoker3 invoker;
+
+        Caller3(Invoker3 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1], a[2]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0], a[1]);
+        }
+    }
+
+    static final class Caller4 extends Caller {
+
+        private final Invoker4 invoker;
+
+        Caller4(Invoker4 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1], a[2], a[3]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0], a[1], a[2]);
+        }
+    }
+
+    static final class Caller5 extends Caller {
+
+        private final Invoker5 invoker;
+
+        Caller5(Invoker5 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1], a[2], a[3], a[4]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0], a[1], a[2], a[3]);
+        }
+    }
+
+    static final class Caller6 extends Caller {
+
+        private final Invoker6 invoker;
+
+        Caller6(Invoker6 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1], a[2], a[3], a[4], a[5]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0], a[1], a[2], a[3], a[4]);
+        }
+    }
+
+    static final class Caller7 extends Caller {
+
+        private final Invoker7 invoker;
+
+        Caller7(Invoker7 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0], a[1], a[2], a[3], a[4], a[5]);
+        }
+    }
+
+    static final class Caller8 extends Caller {
+
+        private final Invoker8 invoker;
+
+        Caller8(Invoker8 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            return invoker.invoke(a[0], a[1], a[2], a[3], a[4], a[5], a[6], a[7]);
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            return invoker.invoke(receiver, a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+        }
+    }
+
+    static final class VoidCaller0 extends Caller {
+
+        private final VoidInvoker0 invoker;
+
+        VoidCaller0(VoidInvoker0 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke();
+            return null;
+        }
+    }
+
+    static final class VoidCaller1 extends Caller {
+
+        private final VoidInvoker1 invoker;
+
+        VoidCaller1(VoidInvoker1 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver);
+            return null;
+        }
+    }
+
+    static final class VoidCaller2 extends Caller {
+
+        private final VoidInvoker2 invoker;
+
+        VoidCaller2(VoidInvoker2 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0]);
+            return null;
+        }
+    }
+
+    static final class VoidCaller3 extends Caller {
+
+        private final VoidInvoker3 invoker;
+
+        VoidCaller3(VoidInvoker3 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1], a[2]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0], a[1]);
+            return null;
+        }
+    }
+
+    static final class VoidCaller4 extends Caller {
+
+        private final VoidInvoker4 invoker;
+
+        VoidCaller4(VoidInvoker4 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1], a[2], a[3]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0], a[1], a[2]);
+            return null;
+        }
+    }
+
+    static final class VoidCaller5 extends Caller {
+
+        private final VoidInvoker5 invoker;
+
+        VoidCaller5(VoidInvoker5 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1], a[2], a[3], a[4]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0], a[1], a[2], a[3]);
+            return null;
+        }
+    }
+
+    static final class VoidCaller6 extends Caller {
+
+        private final VoidInvoker6 invoker;
+
+        VoidCaller6(VoidInvoker6 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1], a[2], a[3], a[4], a[5]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0], a[1], a[2], a[3], a[4]);
+            return null;
+        }
+    }
+
+    static final class VoidCaller7 extends Caller {
+
+        private final VoidInvoker7 invoker;
+
+        VoidCaller7(VoidInvoker7 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0], a[1], a[2], a[3], a[4], a[5]);
+            return null;
+        }
+    }
+
+    static final class VoidCaller8 extends Caller {
+
+        private final VoidInvoker8 invoker;
+
+        VoidCaller8(VoidInvoker8 invoker, String method) {
+            super(method);
+            this.invoker = invoker;
+        }
+
+        @Override
+        Object invoke(Object[] a) throws Throwable {
+            invoker.invoke(a[0], a[1], a[2], a[3], a[4], a[5], a[6], a[7]);
+            return null;
+        }
+
+        @Override
+        Object invokeOn(Object receiver, Object[] a) throws Throwable {
+            invoker.invoke(receiver, a[0], a[1], a[2], a[3], a[4], a[5], a[6]);
+            return null;
+        }
+    }
+
+    static Class<?> interfaceFor(boolean returns, int arity) {
+        return returns ? RETURNING[arity] : VOID[arity];
+    }
+
+    private static final Class<?>[] RETURNING = {
+        Invoker0.class,
+        Invoker1.class,
+        Invoker2.class,
+        Invoker3.class,
+        Invoker4.class,
+        Invoker5.class,
+        Invoker6.class,
+        Invoker7.class,
+        Invoker8.class
+    };
+
+    private static final Class<?>[] VOID = {
+        VoidInvoker0.class,
+        VoidInvoker1.class,
+        VoidInvoker2.class,
+        VoidInvoker3.class,
+        VoidInvoker4.class,
+        VoidInvoker5.class,
+        VoidInvoker6.class,
+        VoidInvoker7.class,
+        VoidInvoker8.class
+    };
+}
@@ -42,6 +42,17 @@ public interface MethodCallerFactory {
         return MethodHandlesCallerFactory.INSTANCE;
     }
 
+    /**
+     * Returns a {@link MethodCallerFactory} that spins a dedicated invoker per method
+     * through the {@link java.lang.invoke.LambdaMetafactory}, falling back to
+     * {@link #methodHandles()} for the methods it can't handle.
+     *
+     * @return The lambda method caller factory.
+     */
+    static @NotNull MethodCallerFactory lambdas() {
+        return LambdaCallerFactory.INSTANCE;
+    }
+
     /**
      * Creates a new {@link MethodCaller} for the specified method.
      *
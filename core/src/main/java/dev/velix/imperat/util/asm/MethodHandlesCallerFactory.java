@@ -7,10 +7,6 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.util.Collections.addAll;
 
 /**
  * A {@link MethodCallerFactory} that uses the method handles API to generate
@@ -26,22 +22,17 @@ final class MethodHandlesCallerFactory implements MethodCallerFactory {
         MethodHandle handle = MethodHandles.lookup().unreflect(method);
         String methodString = method.toString();
         boolean isStatic = Modifier.isStatic(method.getModifiers());
+        //(Object receiver?, Object[] arguments)Object, so that it can be invoked exactly
+        MethodHandle spreader = handle.asType(handle.type().generic())
+            .asSpreader(Object[].class, method.getParameterCount());
         return new MethodCaller() {
             @Override
             public Object call(@Nullable Object instance, Object... arguments) {
-                if (!isStatic) {
-                    final List<Object> args = new ArrayList<>();
-                    args.add(instance);
-                    addAll(args, arguments);
-                    try {
-                        return handle.invokeWithArguments(args);
-                    } catch (final Throwable e) {
-                        throw new RuntimeException(e);
-                    }
-                }
                 try {
-                    return handle.invokeWithArguments(arguments);
-                } catch (Throwable e) {
+                    return isStatic
+                        ? (Object) spreader.invokeExact(arguments)
+                        : (Object) spreader.invokeExact(instance, arguments);
+                } catch (final Throwable e) {
                     throw new RuntimeException(e);
                 }
             }
@@ -42,6 +42,12 @@ class SimpleVerifier<S extends Source> implements UsageVerifier<S> {
         return greedyParam.position() == usage.getMaxLength() - 1 && firstArgIsRequired;
     }
 
+    @Override
+    public Object ambiguityKey(CommandUsage<S> usage) {
+        //usages are never ambiguous unless they've the same number of required parameters
+        return usage.getMinLength();
+    }
+
     @Override
     public boolean areAmbiguous(CommandUsage<S> firstUsage, CommandUsage<S> secondUsage) {
         //check length
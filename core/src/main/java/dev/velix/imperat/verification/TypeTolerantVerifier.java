@@ -7,6 +7,8 @@ import dev.velix.imperat.util.TypeUtility;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a usage verifier where it checks for ambiguity in a slightly
@@ -25,6 +27,28 @@ final class TypeTolerantVerifier<S extends Source> extends SimpleVerifier<S> {
         return super.verify(usage); //I just like the super here lol
     }
 
+    /**
+     * The literal path, arity and type signature of the usage:
+     * its sub-commands and the types of its other parameters, up to its number of required parameters.
+     * Only usages having the same key can be ambiguous.
+     */
+    @Override
+    public Object ambiguityKey(CommandUsage<S> usage) {
+        int capacity = usage.getMinLength();
+        List<String> signature = new ArrayList<>(capacity);
+        for (int depth = 0; depth < capacity; depth++) {
+            var param = usage.getParameter(depth);
+            assert param != null;
+            if (param.isCommand()) {
+                signature.add("/" + param.name().toLowerCase());
+            } else {
+                Type type = param.valueType();
+                signature.add((TypeUtility.isPrimitive(type) ? TypeUtility.primitiveToBoxed(type) : type).getTypeName());
+            }
+        }
+        return signature;
+    }
+
     @Override
     public boolean areAmbiguous(CommandUsage<S> firstUsage, CommandUsage<S> secondUsage) {
         int sizeDiff = firstUsage.getMinLength() - secondUsage.getMinLength();
@@ -0,0 +1,92 @@
+package dev.velix.imperat.verification;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.context.Source;
+import dev.velix.imperat.exception.AmbiguousUsageAdditionException;
+import dev.velix.imperat.exception.InvalidCommandUsageException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The verification of all the usages of a command, done when it's registered.
+ * <p>
+ * The usages are bucketed by their {@link UsageVerifier#ambiguityKey(CommandUsage)},
+ * and each usage is only checked for ambiguity against the usages of its bucket,
+ * along with the usages having no key, so the verification stays near-linear
+ * for commands having thousands of usages.
+ *
+ * @param usages        the number of usages verified
+ * @param buckets       the number of buckets the usages fell in
+ * @param largestBucket the number of usages in the largest bucket
+ * @param comparisons   the number of times two usages were checked for ambiguity
+ * @param nanos         the time the verification took
+ */
+@ApiStatus.AvailableSince("1.0.0")
+public record UsageVerification(int usages, int buckets, int largestBucket, long comparisons, long nanos) {
+
+    /**
+     * Verifies every usage of the command, and that none of them is ambiguous with another.
+     *
+     * @param verifier the verifier
+     * @param command  the command
+     * @param <S>      the source type
+     * @return the verification
+     * @throws InvalidCommandUsageException     if a usage isn't valid
+     * @throws AmbiguousUsageAdditionException if two usages are ambiguous
+     */
+    public static <S extends Source> @NotNull UsageVerification verify(
+        @NotNull UsageVerifier<S> verifier,
+        @NotNull Command<S> command
+    ) {
+        final long start = System.nanoTime();
+        final Map<Object, List<CommandUsage<S>>> buckets = new HashMap<>();
+        //usages without a key are checked against every other usage
+        final List<CommandUsage<S>> unkeyed = new ArrayList<>();
+        final List<CommandUsage<S>> verified = new ArrayList<>();
+
+        long comparisons = 0;
+        int largestBucket = 0;
+        for (CommandUsage<S> usage : command.usages()) {
+            if (!verifier.verify(usage))
+                throw new InvalidCommandUsageException(command, usage);
+
+            Object key = verifier.ambiguityKey(usage);
+            List<CommandUsage<S>> candidates;
+            if (key == null) {
+                candidates = verified;
+                unkeyed.add(usage);
+            } else {
+                List<CommandUsage<S>> bucket = buckets.computeIfAbsent(key, (k) -> new ArrayList<>());
+                comparisons += checkAgainst(verifier, command, usage, bucket);
+                candidates = unkeyed;
+                bucket.add(usage);
+                largestBucket = Math.max(largestBucket, bucket.size());
+            }
+            comparisons += checkAgainst(verifier, command, usage, candidates);
+            verified.add(usage);
+        }
+
+        int bucketCount = buckets.size() + (unkeyed.isEmpty() ? 0 : 1);
+        largestBucket = Math.max(largestBucket, unkeyed.size());
+        return new UsageVerification(verified.size(), bucketCount, largestBucket, comparisons, System.nanoTime() - start);
+    }
+
+    private static <S extends Source> int checkAgainst(
+        UsageVerifier<S> verifier,
+        Command<S> command,
+        CommandUsage<S> usage,
+        List<CommandUsage<S>> others
+    ) {
+        int comparisons = 0;
+        for (CommandUsage<S> other : others) {
+            if (other == usage || other.equals(usage)) continue;
+            comparisons++;
+            if (verifier.areAmbiguous(other, usage) || verifier.areAmbiguous(usage, other))
+                throw new AmbiguousUsageAdditionException(command, other, usage);
+        }
+        return comparisons;
+    }
+}
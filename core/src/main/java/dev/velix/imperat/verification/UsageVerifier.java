@@ -3,6 +3,7 @@ package dev.velix.imperat.verification;
 import dev.velix.imperat.command.CommandUsage;
 import dev.velix.imperat.context.Source;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Verifies that the {@link CommandUsage} is suitable
@@ -46,4 +47,19 @@ public interface UsageVerifier<S extends Source> {
      * and/or share similar indistinguishable parameters or syntax
      */
     boolean areAmbiguous(CommandUsage<S> firstUsage, CommandUsage<S> secondUsage);
+
+    /**
+     * Buckets the usages of a command when it's registered, so that
+     * {@link #areAmbiguous(CommandUsage, CommandUsage)} is only called between usages sharing a key,
+     * instead of between every pair of usages.
+     * <p>
+     * Any two usages that could be ambiguous MUST have equal keys.
+     *
+     * @param usage the usage
+     * @return the ambiguity key of the usage, or null to check it against every other usage
+     * @see UsageVerification
+     */
+    default @Nullable Object ambiguityKey(CommandUsage<S> usage) {
+        return null;
+    }
 }
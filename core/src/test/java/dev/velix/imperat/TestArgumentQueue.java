@@ -0,0 +1,18 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.context.ArgumentQueue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TestArgumentQueue {
+
+    @Test
+    public void testArgumentTokenizing() {
+        ArgumentQueue queue = ArgumentQueue.parse("a  \"b c\" don't 'unclosed d ");
+        Assertions.assertIterableEquals(List.of("a", "\"b c\"", "don't", "'unclosed", "d"), queue);
+        Assertions.assertIterableEquals(List.of("x", "\"y z\""), ArgumentQueue.parse(new String[]{"x", "\"y", "z\""}));
+        Assertions.assertIterableEquals(List.of("x", " "), ArgumentQueue.parseAutoCompletion("x ", true));
+    }
+}
@@ -0,0 +1,131 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.CompletionMode;
+import dev.velix.imperat.context.SuggestionContext;
+import dev.velix.imperat.resolvers.TypeSuggestionResolver;
+import dev.velix.imperat.util.TypeWrap;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class TestAsyncCompletion {
+
+    private static <T> TypeSuggestionResolver<TestSource, T> delayedSuggestions(Class<T> type, long delayMillis, String... results) {
+        return new TypeSuggestionResolver<>() {
+            @Override
+            public @NotNull TypeWrap<T> getType() {
+                return TypeWrap.of(type);
+            }
+
+            @Override
+            public Collection<String> autoComplete(SuggestionContext<TestSource> context, CommandParameter<TestSource> parameter) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of(results);
+            }
+        };
+    }
+
+    @Test
+    public void testAutoCompletionTimeoutKeepsPartialResults() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("home")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").suggest(delayedSuggestions(String.class, 0, "base", "farm")))
+                .execute((source, context) -> {}))
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredInt("page").suggest(delayedSuggestions(Integer.class, 5_000, "1")))
+                .execute((source, context) -> {}))
+            .build());
+        imperat.setSuggestionTimeout(Duration.ofMillis(200));
+
+        var cmd = Objects.requireNonNull(imperat.getCommand("home"));
+        long start = System.nanoTime();
+        var results = imperat.autoComplete(cmd, new TestSource(System.out), new String[]{""}).join();
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(4));
+        Assertions.assertIterableEquals(List.of("base", "farm"), results);
+    }
+
+    @Test
+    public void testParallelCompletionMergesSiblings() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("warp")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").suggest(delayedSuggestions(String.class, 500, "spawn", "shop", "1")))
+                .execute((source, context) -> {}))
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredInt("page").suggest(delayedSuggestions(Integer.class, 500, "1", "2")))
+                .execute((source, context) -> {}))
+            .build());
+        imperat.setCompletionMode(CompletionMode.PARALLEL);
+        var cmd = Objects.requireNonNull(imperat.getCommand("warp"));
+
+        long start = System.nanoTime();
+        var results = imperat.autoComplete(cmd, new TestSource(System.out), new String[]{""}).join();
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(950));
+        Assertions.assertIterableEquals(List.of("spawn", "shop", "1", "2"), results);
+
+        imperat.setSuggestionLimit(2);
+        results = imperat.autoComplete(cmd, new TestSource(System.out), new String[]{""}).join();
+        Assertions.assertIterableEquals(List.of("spawn", "shop"), results);
+    }
+
+    @Test
+    public void testSubCommandNameCompletion() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("kit")
+            .subCommand(Command.<TestSource>create("alpha").aliases("first").build())
+            .subCommand(Command.<TestSource>create("beta").build())
+            .build());
+        var cmd = Objects.requireNonNull(imperat.getCommand("kit"));
+
+        Assertions.assertIterableEquals(List.of("alpha", "beta"),
+            imperat.autoComplete(cmd, new TestSource(System.out), new String[]{""}).join());
+        Assertions.assertIterableEquals(List.of("first"),
+            imperat.autoComplete(cmd, new TestSource(System.out), new String[]{"fi"}).join());
+        Assertions.assertIterableEquals(List.of("beta"),
+            imperat.autoComplete(cmd, new TestSource(System.out), new String[]{"B"}).join());
+    }
+
+    @Test
+    public void testResolverOverridingOnlyAsyncAutoComplete() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("mail")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("to").suggest(new TypeSuggestionResolver<TestSource, String>() {
+                    @Override
+                    public @NotNull TypeWrap<String> getType() {
+                        return TypeWrap.of(String.class);
+                    }
+
+                    @Override
+                    public Collection<String> autoComplete(SuggestionContext<TestSource> context, CommandParameter<TestSource> parameter) {
+                        return List.of("sync");
+                    }
+
+                    @Override
+                    public CompletableFuture<Collection<String>> asyncAutoComplete(SuggestionContext<TestSource> context, CommandParameter<TestSource> parameter) {
+                        return CompletableFuture.supplyAsync(() -> List.of("alice", "bob"));
+                    }
+                }))
+                .execute((source, context) -> {}))
+            .build());
+        var cmd = Objects.requireNonNull(imperat.getCommand("mail"));
+
+        Assertions.assertIterableEquals(List.of("alice", "bob"),
+            imperat.autoComplete(cmd, new TestSource(System.out), new String[]{""}).join());
+    }
+}
@@ -0,0 +1,64 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestBatchRegistration {
+
+    @Test
+    public void testBatchRegistration() {
+        TestImperat imperat = new TestImperat();
+        imperat.batch((batch) -> {
+            for (int i = 0; i < 10; i++) {
+                batch.register(Command.<TestSource>create("batch" + i)
+                    .usage(CommandUsage.<TestSource>builder()
+                        .parameters(CommandParameter.<TestSource>requiredText("name").build())
+                        .execute((source, context) -> {}))
+                    .build());
+            }
+            //registrations inside the session are collected as well
+            imperat.registerCommand(Command.<TestSource>create("direct").build());
+            Assertions.assertEquals(11, batch.size());
+            Assertions.assertNull(imperat.getCommand("batch0"));
+        });
+        Assertions.assertEquals(1, imperat.platformSyncs);
+        Assertions.assertEquals(11, imperat.getRegisteredCommands().size());
+        Assertions.assertEquals(11, imperat.getRegistrationReports().size());
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "batch3", "x"));
+
+        //a failing command fails the whole batch
+        imperat.batch((batch) -> batch
+            .register(Command.<TestSource>create("valid").build())
+            .register(Command.<TestSource>create("invalid")
+                .usage(CommandUsage.<TestSource>builder()
+                    .parameters(CommandParameter.<TestSource>optionalText("first").build())
+                    .execute((source, context) -> {}))
+                .build()));
+        Assertions.assertNull(imperat.getCommand("valid"));
+        Assertions.assertEquals(1, imperat.platformSyncs);
+    }
+
+    @Test
+    public void testPlatformCommandsFollowTheRegistry() {
+        TestImperat imperat = new TestImperat();
+        Command<TestSource> first = Command.<TestSource>create("spawn").build();
+        imperat.registerCommand(first);
+        Assertions.assertIterableEquals(List.of(first), imperat.platformCommands);
+
+        //taking over a name drops the previous command from the platform
+        Command<TestSource> second = Command.<TestSource>create("spawn").build();
+        imperat.registerCommand(second);
+        Assertions.assertIterableEquals(List.of(second), imperat.platformCommands);
+
+        Assertions.assertSame(second, imperat.unregisterCommand("spawn"));
+        Assertions.assertTrue(imperat.platformCommands.isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.annotations.CachedSuggestions;
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.CachedSuggestionResolver;
+import dev.velix.imperat.context.SuggestionContext;
+import dev.velix.imperat.resolvers.TypeSuggestionResolver;
+import dev.velix.imperat.util.TypeWrap;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestCachedSuggestions {
+
+    @CachedSuggestions(ttl = 1, unit = TimeUnit.MINUTES, perSource = true)
+    private static final class WarpSuggestions implements TypeSuggestionResolver<TestSource, String> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public @NotNull TypeWrap<String> getType() {
+            return TypeWrap.of(String.class);
+        }
+
+        @Override
+        public Collection<String> autoComplete(SuggestionContext<TestSource> context, CommandParameter<TestSource> parameter) {
+            calls.incrementAndGet();
+            return List.of("spawn", "shop");
+        }
+    }
+
+    @Test
+    public void testCachedNamedSuggestions() {
+        TestImperat imperat = new TestImperat();
+        WarpSuggestions warps = new WarpSuggestions();
+        imperat.registerNamedSuggestionResolver("warps", warps);
+        var resolver = imperat.getNamedSuggestionResolver("warps");
+        Assertions.assertTrue(resolver instanceof CachedSuggestionResolver<TestSource>);
+        Assertions.assertTrue(resolver instanceof TypeSuggestionResolver<?, ?>);
+
+        imperat.registerCommand(Command.<TestSource>create("warp")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").suggest((TypeSuggestionResolver<TestSource, String>) resolver))
+                .execute((source, context) -> {}))
+            .build());
+        var cmd = Objects.requireNonNull(imperat.getCommand("warp"));
+        TestSource source = new TestSource(System.out);
+
+        Assertions.assertIterableEquals(List.of("spawn", "shop"), imperat.autoComplete(cmd, source, new String[]{""}).join());
+        Assertions.assertIterableEquals(List.of("spawn", "shop"), imperat.autoComplete(cmd, new TestSource(System.out), new String[]{""}).join());
+        Assertions.assertEquals(1, warps.calls.get());
+
+        imperat.autoComplete(cmd, source, new String[]{"s"}).join();
+        Assertions.assertEquals(2, warps.calls.get());
+
+        imperat.invalidateNamedSuggestions("warps");
+        imperat.autoComplete(cmd, source, new String[]{""}).join();
+        Assertions.assertEquals(3, warps.calls.get());
+    }
+}
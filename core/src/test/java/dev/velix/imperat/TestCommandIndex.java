@@ -0,0 +1,55 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static dev.velix.imperat.TestRun.IMPERAT;
+
+public class TestCommandIndex {
+
+    @Test
+    public void testCommandIndex() {
+        var third = IMPERAT.getCommandByPath("subs  first SECOND third");
+        Assertions.assertNotNull(third);
+        Assertions.assertEquals("third", third.name());
+        Assertions.assertSame(third, IMPERAT.getSubCommand("subs", "third"));
+        Assertions.assertNull(IMPERAT.getCommandByPath("subs third"));
+
+        TestImperat imperat = new TestImperat();
+        Command<TestSource> root = Command.<TestSource>create("party")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").build())
+                .execute((source, context) -> {}))
+            .subCommand("invite", CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("player").build())
+                .execute((source, context) -> {}))
+            .build();
+        imperat.registerCommand(root);
+        Assertions.assertNull(imperat.getCommand("p"));
+
+        //aliases added after registering are indexed as well
+        root.addAliases("p");
+        Objects.requireNonNull(root.getSubCommand("invite")).addAliases("inv");
+        Assertions.assertSame(root, imperat.getCommand("P"));
+        Assertions.assertSame(root.getSubCommand("INV"), imperat.getCommandByPath("p inv"));
+        Assertions.assertSame(root.getSubCommand("invite"), imperat.getSubCommand("p", "inv"));
+
+        //an alias shared by two roots goes back to the other one once its owner is unregistered
+        Command<TestSource> other = Command.<TestSource>create("parties")
+            .aliases("p")
+            .usage(CommandUsage.<TestSource>builder()
+                .execute((source, context) -> {}))
+            .build();
+        imperat.registerCommand(other);
+        Assertions.assertSame(root, imperat.getCommand("p"));
+        imperat.unregisterCommand("party");
+        Assertions.assertSame(other, imperat.getCommand("p"));
+        Assertions.assertSame(other, imperat.getCommandByPath("p"));
+        Assertions.assertNull(imperat.getCommandByPath("party invite"));
+    }
+}
@@ -0,0 +1,45 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.metrics.CommandMetrics;
+import dev.velix.imperat.command.metrics.LatencyHistogram;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.commands.annotations.examples.BanCommand;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestCommandMetrics {
+
+    @Test
+    public void testCommandMetrics() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(new BanCommand());
+        CommandMetrics<TestSource> metrics = CommandMetrics.create();
+        imperat.setMetrics(metrics);
+        imperat.registerCommand(metrics.dumpCommand("metrics"));
+
+        imperat.dispatch(SOURCE, "ban", "mqzen");
+        imperat.dispatch(SOURCE, "ban", "mqzen -s");
+
+        var snapshot = metrics.snapshot("ban");
+        Assertions.assertNotNull(snapshot);
+        Assertions.assertEquals(2, snapshot.invocations());
+        Assertions.assertEquals(Long.valueOf(2L), snapshot.outcomes().get(CommandDispatch.Result.COMPLETE));
+        Assertions.assertEquals(2, snapshot.match().count());
+        Assertions.assertEquals(2, snapshot.execute().count());
+        Assertions.assertEquals(2, snapshot.usages().stream().mapToLong((usage) -> usage.invocations()).sum());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "metrics", "ban"));
+        Assertions.assertEquals(2, metrics.snapshot().size());
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        histogram.record(3_000);
+        histogram.record(3_000_000);
+        var latencies = histogram.snapshot();
+        Assertions.assertEquals(3, latencies.count());
+        Assertions.assertEquals(4_000, latencies.percentileNanos(50));
+        Assertions.assertEquals(3_000_000, latencies.percentileNanos(100));
+    }
+}
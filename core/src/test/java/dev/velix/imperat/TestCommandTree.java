@@ -0,0 +1,116 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.type.ParameterEnum;
+import dev.velix.imperat.command.parameters.type.ParameterTypes;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.commands.annotations.examples.Color;
+import dev.velix.imperat.commands.annotations.examples.PaintCommand;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.velix.imperat.TestRun.IMPERAT;
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestCommandTree {
+
+    @Test
+    public void testSubCommandAliasRouting() {
+        var builder = Command.<TestSource>create("admin");
+        for (int i = 0; i < 64; i++) {
+            builder.subCommand(
+                Command.<TestSource>create("sub" + i)
+                    .aliases("alias" + i)
+                    .usage(CommandUsage.<TestSource>builder()
+                        .parameters(CommandParameter.requiredText("value")))
+                    .build()
+            );
+        }
+        IMPERAT.registerCommand(builder.build());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "admin", "sub42 hello"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "admin", "ALIAS42 hello"));
+    }
+
+    @Test
+    public void testUsageAddedAfterRegistration() {
+        CommandParameter<TestSource> first = CommandParameter.<TestSource>requiredText("first").build();
+        Command<TestSource> command = Command.<TestSource>create("late")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(first)
+                .execute((source, context) -> source.reply("first usage")))
+            .build();
+        IMPERAT.registerCommand(command);
+        Assertions.assertEquals(CommandDispatch.Result.INCOMPLETE, IMPERAT.dispatch(SOURCE, "late", "a b"));
+        var compiled = command.tree().getRoot();
+
+        CommandParameter<TestSource> second = CommandParameter.<TestSource>requiredText("second").build();
+        command.addUsage(CommandUsage.<TestSource>builder()
+            .parameters(first, second)
+            .execute((source, context) -> source.reply("second usage"))
+            .build(command));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "late", "a b"));
+
+        //the new usage is compiled into a new tree, the previous one is left untouched
+        Assertions.assertNotSame(compiled, command.tree().getRoot());
+        var firstNode = compiled.getChildren().iterator().next();
+        Assertions.assertTrue(firstNode.isLeaf());
+        Assertions.assertFalse(command.tree().getRoot().getChildren().iterator().next().isLeaf());
+
+        //usages added in a row are compiled together, once the tree is read again
+        for (String name : List.of("third", "fourth")) {
+            command.addUsage(CommandUsage.<TestSource>builder()
+                .parameters(first, second, CommandParameter.<TestSource>requiredText(name).build())
+                .execute((source, context) -> {})
+                .build(command));
+        }
+        var batched = command.tree().getRoot();
+        Assertions.assertSame(batched, command.tree().getRoot());
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "late", "a b c"));
+    }
+
+    @Test
+    public void testLiteralNamesOverAliases() {
+        List<String> executed = new ArrayList<>();
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("files")
+            .subCommand(Command.<TestSource>create("list")
+                .aliases("ls", "dir")
+                .usage(CommandUsage.<TestSource>builder()
+                    .parameters(CommandParameter.requiredText("path"))
+                    .execute((source, context) -> executed.add("list")))
+                .build())
+            .subCommand(Command.<TestSource>create("ls")
+                .aliases("dir")
+                .usage(CommandUsage.<TestSource>builder()
+                    .parameters(CommandParameter.requiredText("path"))
+                    .execute((source, context) -> executed.add("ls")))
+                .build())
+            .build());
+
+        //a sibling's name wins over an alias, a taken alias stays with its first owner
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "files", "ls a"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "files", "DIR a"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "files", "list a"));
+        Assertions.assertIterableEquals(List.of("ls", "list", "list"), executed);
+    }
+
+    @Test
+    public void testUnknownEnumConstantDoesNotMatch() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(new PaintCommand());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "paint", "red"));
+        Assertions.assertTrue(imperat.dispatch(SOURCE, "paint", "purple") != CommandDispatch.Result.COMPLETE);
+
+        ParameterEnum<TestSource> type = ParameterTypes.enumeration(Color.class);
+        CommandParameter<TestSource> color = CommandParameter.required("color", type).build();
+        Assertions.assertTrue(type.matchesInput("green", color));
+        Assertions.assertFalse(Assertions.assertDoesNotThrow(() -> type.matchesInput("purple", color)));
+    }
+}
@@ -0,0 +1,145 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.cooldown.CooldownStorage;
+import dev.velix.imperat.command.cooldown.FileCooldownStorage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestCooldowns {
+
+    @Test
+    public void testCooldownAcrossSourceWrappers() {
+        Command<TestSource> command = Command.<TestSource>create("daily").build();
+        CommandUsage<TestSource> usage = CommandUsage.<TestSource>builder()
+            .parameters(CommandParameter.<TestSource>requiredText("reward").build())
+            .cooldown(1, TimeUnit.HOURS)
+            .build(command);
+        var handler = usage.getCooldownHandler();
+
+        Assertions.assertTrue(handler.tryRegisterExecution(new TestSource(System.out)));
+        //a new wrapper of the same source must still be on cooldown
+        Assertions.assertFalse(handler.tryRegisterExecution(new TestSource(System.out)));
+        Assertions.assertTrue(handler.hasCooldown(new TestSource(System.err)));
+        Assertions.assertTrue(handler.getLastTimeExecuted(new TestSource(System.out)).isPresent());
+    }
+
+    @Test
+    public void testFileCooldownStorageSurvivesReopening() throws Exception {
+        Path file = Files.createTempFile("imperat-cooldowns", ".bin");
+        UUID source = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+
+        try (FileCooldownStorage storage = FileCooldownStorage.open(file)) {
+            Assertions.assertTrue(storage.tryRegister(source, now, TimeUnit.DAYS.toMillis(1)));
+            Assertions.assertFalse(storage.tryRegister(source, now + 1, TimeUnit.DAYS.toMillis(1)));
+        }
+
+        try (FileCooldownStorage storage = FileCooldownStorage.open(file)) {
+            storage.loaded().join();
+            Assertions.assertEquals(now, storage.getLastExecution(source));
+            Assertions.assertEquals(CooldownStorage.NONE, storage.getLastExecution(UUID.randomUUID()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testFileCooldownStorageDoesNotWaitForLoading() throws Exception {
+        Path file = Files.createTempFile("imperat-cooldowns", ".bin");
+        UUID early = UUID.randomUUID(), late = UUID.randomUUID();
+
+        try (FileCooldownStorage storage = FileCooldownStorage.open(file)) {
+            storage.setLastExecution(early, 1_000);
+            storage.setLastExecution(late, 1_000);
+        }
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        try (FileCooldownStorage storage = FileCooldownStorage.open(file, executor, Duration.ofMinutes(1))) {
+            //served from memory while the file is still to be read
+            Assertions.assertEquals(CooldownStorage.NONE, storage.getLastExecution(early));
+            Assertions.assertTrue(storage.tryRegister(late, 2_000, 100));
+            storage.removeExpired(5_000, 100_000);
+
+            blocked.countDown();
+            storage.loaded().join();
+            Assertions.assertEquals(1_000, storage.getLastExecution(early));
+            Assertions.assertEquals(2_000, storage.getLastExecution(late));
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testShutdownWritesCooldownStorages() throws Exception {
+        Path file = Files.createTempFile("imperat-cooldowns", ".bin");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            FileCooldownStorage storage = FileCooldownStorage.open(file, executor, Duration.ofHours(1));
+            TestImperat imperat = new TestImperat();
+            imperat.registerCommand(Command.<TestSource>create("heal")
+                .usage(CommandUsage.<TestSource>builder()
+                    .parameters(CommandParameter.<TestSource>requiredText("target").build())
+                    .cooldown(1, TimeUnit.DAYS)
+                    .cooldownStorage(storage)
+                    .execute((source, context) -> {}))
+                .build());
+            storage.loaded().join();
+            Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "heal", "me"));
+
+            //written by the shutdown, long before the next periodic write
+            imperat.shutdown();
+            try (FileCooldownStorage reopened = FileCooldownStorage.open(file, executor, Duration.ofHours(1))) {
+                reopened.loaded().join();
+                Assertions.assertTrue(reopened.getLastExecution(SOURCE.uuid()) != CooldownStorage.NONE);
+            }
+        } finally {
+            executor.shutdownNow();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testInMemoryCooldownStorage() {
+        CooldownStorage storage = CooldownStorage.inMemory();
+        UUID source = UUID.randomUUID();
+
+        Assertions.assertTrue(storage.tryRegister(source, 1_000, 100));
+        Assertions.assertFalse(storage.tryRegister(source, 1_100, 100));
+        Assertions.assertTrue(storage.tryRegister(source, 1_101, 100));
+        Assertions.assertEquals(1_101, storage.getLastExecution(source));
+
+        storage.removeExpired(1_150, 100);
+        Assertions.assertEquals(1_101, storage.getLastExecution(source));
+        storage.removeExpired(1_300, 100);
+        Assertions.assertEquals(CooldownStorage.NONE, storage.getLastExecution(source));
+
+        storage.setLastExecution(source, 2_000);
+        Assertions.assertFalse(storage.tryRegister(source, 2_050, 100));
+        storage.remove(source);
+        Assertions.assertEquals(CooldownStorage.NONE, storage.getLastExecution(source));
+        Assertions.assertTrue(storage.tryRegister(source, 2_060, 100));
+    }
+}
@@ -0,0 +1,85 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandCoordinator;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestCoordinators {
+
+    @Test
+    public void testOrderedAsyncDispatch() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TestImperat imperat = new TestImperat();
+            List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+            imperat.registerCommand(Command.<TestSource>create("save")
+                .usage(CommandUsage.<TestSource>builder()
+                    .parameters(CommandParameter.<TestSource>requiredInt("slot").build())
+                    .coordinator(CommandCoordinator.ordered(executor, 8))
+                    .execute((source, context) -> {
+                        int slot = Objects.requireNonNull(context.<Integer>getArgument("slot"));
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos((5 - slot) * 5L));
+                        executed.add(slot);
+                    }))
+                .build());
+
+            List<CompletableFuture<CommandDispatch.Result>> results = new ArrayList<>();
+            for (int slot = 0; slot < 5; slot++) {
+                results.add(imperat.dispatchAsync(SOURCE, "save " + slot));
+            }
+            for (var result : results) {
+                Assertions.assertEquals(CommandDispatch.Result.COMPLETE, result.get(5, TimeUnit.SECONDS));
+            }
+            Assertions.assertIterableEquals(List.of(0, 1, 2, 3, 4), executed);
+
+            //a source can't have more executions pending than allowed
+            CompletableFuture<Void> release = new CompletableFuture<>();
+            imperat.registerCommand(Command.<TestSource>create("load")
+                .usage(CommandUsage.<TestSource>builder()
+                    .parameters(CommandParameter.<TestSource>requiredInt("slot").build())
+                    .coordinator(CommandCoordinator.ordered(executor, 1))
+                    .execute((source, context) -> release.join()))
+                .build());
+            var first = imperat.dispatchAsync(SOURCE, "load 1");
+            Assertions.assertEquals(CommandDispatch.Result.UNKNOWN, imperat.dispatchAsync(SOURCE, "load 2").get(5, TimeUnit.SECONDS));
+            release.complete(null);
+            Assertions.assertEquals(CommandDispatch.Result.COMPLETE, first.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOrderedDispatchOnCallingThread() throws Exception {
+        TestImperat imperat = new TestImperat();
+        List<Integer> executed = new ArrayList<>();
+        imperat.registerCommand(Command.<TestSource>create("mark")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredInt("slot").build())
+                .coordinator(CommandCoordinator.ordered(Runnable::run, 1))
+                .execute((source, context) -> executed.add(context.<Integer>getArgument("slot"))))
+            .build());
+
+        //each execution completes its slot while submitting, before the next one is submitted
+        for (int slot = 0; slot < 3; slot++) {
+            Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatchAsync(SOURCE, "mark " + slot).get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertIterableEquals(List.of(0, 1, 2), executed);
+    }
+}
@@ -0,0 +1,100 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.type.BaseParameterType;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.ExecutionContext;
+import dev.velix.imperat.context.internal.CommandInputStream;
+import dev.velix.imperat.util.TypeWrap;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.velix.imperat.TestRun.IMPERAT;
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestDispatchCache {
+
+    @Test
+    public void testDispatchCacheByInputShape() {
+        Command<TestSource> command = Command.<TestSource>create("shop")
+            .dispatchCache(16)
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.requiredInt("amount"))
+                .execute((source, context) -> source.reply("buying")))
+            .subCommand("set", CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.requiredText("name"))
+                .execute((source, context) -> source.reply("setting")), true)
+            .build();
+        IMPERAT.registerCommand(command);
+        var cache = command.tree().getDispatchCache();
+        Assertions.assertNotNull(cache);
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "shop", "5"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "shop", "7"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "shop", "set a"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "shop", "SET b"));
+        Assertions.assertEquals(CommandDispatch.Result.UNKNOWN, IMPERAT.dispatch(SOURCE, "shop", "five"));
+        Assertions.assertEquals(2, cache.hits());
+        Assertions.assertEquals(3, cache.misses());
+
+        command.addUsage(CommandUsage.<TestSource>builder()
+            .parameters(CommandParameter.<TestSource>requiredText("item").build())
+            .execute((source, context) -> source.reply("item"))
+            .build(command));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, IMPERAT.dispatch(SOURCE, "shop", "five"));
+    }
+
+    @Test
+    public void testDispatchCacheRechecksOtherTypes() {
+        AtomicInteger matches = new AtomicInteger();
+        BaseParameterType<TestSource, String> color = new BaseParameterType<>(TypeWrap.of(String.class)) {
+            @Override
+            public String resolve(ExecutionContext<TestSource> context, @NotNull CommandInputStream<TestSource> stream) {
+                return stream.currentRaw();
+            }
+
+            @Override
+            public boolean matchesInput(String input, CommandParameter<TestSource> parameter) {
+                matches.incrementAndGet();
+                return input.equals("red") || input.equals("blue");
+            }
+        };
+        TestImperat imperat = new TestImperat();
+        Command<TestSource> command = Command.<TestSource>create("paint")
+            .dispatchCache(16)
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(
+                    CommandParameter.<TestSource, String>required("color", color).build(),
+                    CommandParameter.<TestSource>requiredInt("layers").build()
+                )
+                .execute((source, context) -> {}))
+            .build();
+        imperat.registerCommand(command);
+        var tree = command.tree();
+        var cache = Objects.requireNonNull(tree.getDispatchCache());
+
+        var first = tree.contextMatch(ArgumentQueue.parse("red 2"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, first.result());
+        //same shape, the color is checked again while the number isn't
+        matches.set(0);
+        var second = tree.contextMatch(ArgumentQueue.parse("blue 3"));
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, second.result());
+        Assertions.assertEquals(1, matches.get());
+        Assertions.assertEquals(1, cache.hits());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.toUsage(command), second.toUsage(command));
+
+        //same shape, but the color doesn't match
+        Assertions.assertTrue(tree.contextMatch(ArgumentQueue.parse("green 3")).result() != CommandDispatch.Result.COMPLETE);
+        Assertions.assertEquals(1, cache.hits());
+        Assertions.assertEquals(2, cache.misses());
+    }
+}
@@ -0,0 +1,69 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.DispatchTracer;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.commands.annotations.examples.BanCommand;
+import dev.velix.imperat.context.ArgumentQueue;
+import dev.velix.imperat.context.Context;
+import dev.velix.imperat.context.ResolvedContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestDispatchTracer {
+
+    @Test
+    public void testDispatchTracer() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(new BanCommand());
+        List<String> phases = new ArrayList<>();
+        imperat.setDispatchTracer(new DispatchTracer<>() {
+            @Override
+            public void onTokenize(TestSource source, Command<TestSource> command, ArgumentQueue arguments, long nanos) {
+                phases.add("tokenize");
+            }
+
+            @Override
+            public void onTreeMatch(Context<TestSource> context, CommandDispatch<TestSource> dispatch, long nanos) {
+                phases.add("match");
+            }
+
+            @Override
+            public void onPreProcess(Context<TestSource> context, CommandUsage<TestSource> usage, long nanos) {
+                phases.add("pre-process");
+            }
+
+            @Override
+            public void onResolve(ResolvedContext<TestSource> context, CommandUsage<TestSource> usage, long nanos) {
+                phases.add("resolve");
+            }
+
+            @Override
+            public void onExecute(ResolvedContext<TestSource> context, CommandUsage<TestSource> usage, long nanos) {
+                phases.add("execute");
+            }
+
+            @Override
+            public void onDispatched(Context<TestSource> context, CommandDispatch.Result result, long nanos) {
+                phases.add("dispatched");
+            }
+        });
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "ban", "mqzen -s"));
+        Assertions.assertIterableEquals(
+            List.of("tokenize", "match", "pre-process", "resolve", "execute", "dispatched"),
+            phases
+        );
+
+        phases.clear();
+        imperat.setDispatchTracer(null);
+        imperat.dispatch(SOURCE, "ban", "mqzen");
+        Assertions.assertTrue(phases.isEmpty());
+    }
+}
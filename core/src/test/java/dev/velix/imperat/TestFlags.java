@@ -0,0 +1,37 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.util.Patterns;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+public class TestFlags {
+
+    @Test
+    public void testFlagLookupByAlias() {
+        Assertions.assertTrue(Patterns.isFlagCandidate("-s"));
+        Assertions.assertTrue(Patterns.isFlagCandidate("--silent"));
+        Assertions.assertFalse(Patterns.isFlagCandidate("-"));
+        Assertions.assertFalse(Patterns.isFlagCandidate("---s"));
+        Assertions.assertFalse(Patterns.isFlagCandidate("-1"));
+        Assertions.assertFalse(Patterns.isFlagCandidate("mqzen"));
+
+        var usage = CommandUsage.<TestSource>builder()
+            .parameters(
+                CommandParameter.<TestSource>requiredText("target").build(),
+                CommandParameter.<TestSource>flagSwitch("silent").aliases("s").build(),
+                CommandParameter.<TestSource>flagSwitch("ip").aliases("s", "i").build()
+            )
+            .build(Command.<TestSource>create("flags").build());
+
+        Assertions.assertEquals("silent", Objects.requireNonNull(usage.getFlagFromRaw("--SILENT")).name());
+        Assertions.assertEquals("silent", Objects.requireNonNull(usage.getFlagFromRaw("-s")).name());
+        Assertions.assertEquals("ip", Objects.requireNonNull(usage.getFlagFromRaw("-i")).name());
+        Assertions.assertNull(usage.getFlagFromRaw("silent"));
+        Assertions.assertNull(usage.getFlagFromRaw("-x"));
+    }
+}
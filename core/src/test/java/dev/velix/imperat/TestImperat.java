@@ -4,6 +4,8 @@ import dev.velix.imperat.command.BaseImperat;
 import dev.velix.imperat.command.Command;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
 
 public final class TestImperat extends BaseImperat<TestSource> {
 
@@ -44,9 +46,22 @@ public final class TestImperat extends BaseImperat<TestSource> {
 
     }
 
+    int platformSyncs = 0;
+    final List<Command<TestSource>> platformCommands = new ArrayList<>();
+
     @Override
-    public void registerCommand(Command<TestSource> command) {
-        super.registerCommand(command);
+    protected void registerOnPlatform(Command<TestSource> command) {
         command.visualizeTree();
+        platformCommands.add(command);
+    }
+
+    @Override
+    protected void unregisterOnPlatform(Command<TestSource> command) {
+        platformCommands.remove(command);
+    }
+
+    @Override
+    protected void syncPlatform() {
+        platformSyncs++;
     }
 }
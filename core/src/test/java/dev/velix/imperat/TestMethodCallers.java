@@ -0,0 +1,43 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.util.asm.MethodCallerFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMethodCallers {
+
+    public static final class CallerTarget {
+        private int calls;
+
+        private int add(int a, Integer b) {
+            return a + b + (++calls);
+        }
+
+        private void reset(String reason) {
+            calls = 0;
+        }
+
+        private static String join(String a, String b) {
+            return a + b;
+        }
+    }
+
+    @Test
+    public void testLambdaMethodCaller() throws Throwable {
+        CallerTarget target = new CallerTarget();
+        var add = MethodCallerFactory.lambdas()
+            .createFor(CallerTarget.class.getDeclaredMethod("add", int.class, Integer.class));
+        Assertions.assertTrue(add.toString().startsWith("LambdaCaller"));
+        Assertions.assertEquals(4, add.bindTo(target).call(1, 2));
+        Assertions.assertEquals(5, add.call(target, 1, 2));
+
+        var reset = MethodCallerFactory.lambdas()
+            .createFor(CallerTarget.class.getDeclaredMethod("reset", String.class));
+        Assertions.assertNull(reset.bindTo(target).call("test"));
+        Assertions.assertEquals(0, target.calls);
+
+        var join = MethodCallerFactory.lambdas()
+            .createFor(CallerTarget.class.getDeclaredMethod("join", String.class, String.class));
+        Assertions.assertEquals("ab", join.bindTo(null).call("a", "b"));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.NumericRange;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.util.NumberScanner;
+import dev.velix.imperat.util.TypeUtility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestNumberScanner {
+
+    @Test
+    public void testNumberScanner() {
+        Assertions.assertEquals(42L, NumberScanner.scanInt("42"));
+        Assertions.assertEquals(-7L, NumberScanner.scanInt("-7"));
+        Assertions.assertEquals((long) Integer.MAX_VALUE, NumberScanner.scanInt("+2147483647"));
+        Assertions.assertEquals((long) Integer.MIN_VALUE, NumberScanner.scanInt("-2147483648"));
+        for (String invalid : List.of("", "-", "+", "2147483648", "-2147483649", "12a", "1.0", "abc")) {
+            Assertions.assertEquals(NumberScanner.INVALID, NumberScanner.scanInt(invalid), invalid);
+        }
+
+        Assertions.assertTrue(NumberScanner.isLong("9223372036854775807"));
+        Assertions.assertTrue(NumberScanner.isLong("-9223372036854775808"));
+        Assertions.assertFalse(NumberScanner.isLong("9223372036854775808"));
+        Assertions.assertFalse(NumberScanner.isLong("--1"));
+
+        for (String valid : List.of("1", "-1.5", ".5", "5.", "1e10", "2.5E-3", "1f", "3d", "NaN", "-Infinity")) {
+            Assertions.assertTrue(NumberScanner.isDecimal(valid), valid);
+            Assertions.assertDoesNotThrow(() -> Double.parseDouble(valid));
+        }
+        for (String invalid : List.of("", ".", "-", "1e", "e5", "1.2.3", "1ff", "abc")) {
+            Assertions.assertFalse(NumberScanner.isDecimal(invalid), invalid);
+        }
+        Assertions.assertTrue(TypeUtility.isInteger("123"));
+        Assertions.assertFalse(TypeUtility.isDouble("one"));
+        Assertions.assertTrue(TypeUtility.isFloat("-1.5f"));
+        Assertions.assertFalse(TypeUtility.isFloat("1.5.0"));
+        Assertions.assertFalse(TypeUtility.isFloat(null));
+
+        //longs past 2^53 are compared exactly against the bounds
+        NumericRange range = NumericRange.of(0, 0x1p53);
+        Assertions.assertTrue(range.matches((1L << 53)));
+        Assertions.assertFalse(range.matches((1L << 53) + 1));
+        Assertions.assertTrue(range.matches((double) ((1L << 53) + 1)));
+        Assertions.assertTrue(NumericRange.of(-0.5, 0.5).matches(0L));
+        Assertions.assertFalse(NumericRange.of(0.5, 2).matches(0L));
+        Assertions.assertTrue(NumericRange.of(Long.MIN_VALUE, 0x1p64).matches(Long.MAX_VALUE));
+
+        //invalid numbers are reported without a NumberFormatException
+        TestImperat imperat = new TestImperat();
+        AtomicInteger value = new AtomicInteger();
+        imperat.registerCommand(Command.<TestSource>create("level")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredInt("value").build())
+                .execute((source, context) -> value.set(context.<Integer>getArgument("value"))))
+            .build());
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "level", "-12"));
+        Assertions.assertEquals(-12, value.get());
+        Assertions.assertTrue(imperat.dispatch(SOURCE, "level", "twelve") != CommandDispatch.Result.COMPLETE);
+        Assertions.assertEquals(-12, value.get());
+    }
+}
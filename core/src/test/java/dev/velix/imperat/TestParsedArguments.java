@@ -0,0 +1,143 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.parameters.type.BaseParameterType;
+import dev.velix.imperat.command.parameters.type.IntParameterType;
+import dev.velix.imperat.command.parameters.type.ParameterType;
+import dev.velix.imperat.command.parameters.type.ParameterTypes;
+import dev.velix.imperat.command.parameters.type.ResolveResult;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.context.ExecutionContext;
+import dev.velix.imperat.context.ParsedArguments;
+import dev.velix.imperat.context.internal.CommandInputStream;
+import dev.velix.imperat.exception.SourceException;
+import dev.velix.imperat.util.TypeWrap;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestParsedArguments {
+
+    @Test
+    public void testParsedOnceWhileMatching() {
+        AtomicInteger parses = new AtomicInteger();
+        AtomicInteger resolves = new AtomicInteger();
+        BaseParameterType<TestSource, Integer> counted = new BaseParameterType<>(TypeWrap.of(Integer.class)) {
+            @Override
+            public Integer resolve(ExecutionContext<TestSource> context, @NotNull CommandInputStream<TestSource> stream) {
+                resolves.incrementAndGet();
+                return Integer.parseInt(Objects.requireNonNull(stream.currentRaw()));
+            }
+
+            @Override
+            public boolean matchesInput(String input, CommandParameter<TestSource> parameter) {
+                return tryParse(input, parameter).isSuccess();
+            }
+
+            @Override
+            public @NotNull ResolveResult<Integer> tryParse(String input, CommandParameter<TestSource> parameter) {
+                parses.incrementAndGet();
+                try {
+                    return ResolveResult.success(Integer.parseInt(input));
+                } catch (NumberFormatException ex) {
+                    return ResolveResult.failure(new SourceException("Invalid number '%s'", input));
+                }
+            }
+        };
+
+        AtomicInteger sum = new AtomicInteger();
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("add")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(
+                    CommandParameter.<TestSource, Integer>required("first", counted).build(),
+                    CommandParameter.<TestSource, Integer>required("second", counted).build()
+                )
+                .execute((source, context) -> sum.set(context.<Integer>getArgument("first") + context.<Integer>getArgument("second"))))
+            .build());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "add", "2 40"));
+        Assertions.assertEquals(42, sum.get());
+        //each argument parsed once while matching, then reused when resolving
+        Assertions.assertEquals(2, parses.get());
+        Assertions.assertEquals(0, resolves.get());
+    }
+
+    @Test
+    public void testPrimitivesBoxedOnceResolved() {
+        ParsedArguments parsed = new ParsedArguments();
+        CommandParameter<TestSource> count = CommandParameter.<TestSource>requiredInt("count").build();
+        CommandParameter<TestSource> id = CommandParameter.<TestSource>requiredLong("id").build();
+        CommandParameter<TestSource> ratio = CommandParameter.<TestSource>requiredFloat("ratio").build();
+        CommandParameter<TestSource> amount = CommandParameter.<TestSource>requiredDouble("amount").build();
+
+        Assertions.assertTrue(parsed.matches(count, "-42"));
+        Assertions.assertFalse(parsed.matches(count, "4.2"));
+        Assertions.assertTrue(parsed.matches(id, "9000000000"));
+        Assertions.assertTrue(parsed.matches(ratio, "0.5"));
+        Assertions.assertTrue(parsed.matches(amount, "-1e3"));
+
+        Assertions.assertEquals(-42, Objects.requireNonNull(parsed.parsed(count, "-42")).value());
+        Assertions.assertNull(parsed.parsed(count, "4.2"));
+        Assertions.assertEquals(9_000_000_000L, Objects.requireNonNull(parsed.parsed(id, "9000000000")).value());
+        Assertions.assertEquals(0.5f, Objects.requireNonNull(parsed.parsed(ratio, "0.5")).value());
+        Assertions.assertEquals(-1000d, Objects.requireNonNull(parsed.parsed(amount, "-1e3")).value());
+        //matched again after being resolved
+        Assertions.assertTrue(parsed.matches(count, "-42"));
+    }
+
+    @Test
+    public void testIntTypeResolvedOnceWhileMatching() {
+        AtomicInteger scans = new AtomicInteger();
+        CountedInts counted = new CountedInts(scans);
+
+        AtomicInteger sum = new AtomicInteger();
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("sum")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(
+                    CommandParameter.<TestSource, Integer>required("first", counted).build(),
+                    CommandParameter.<TestSource, Integer>required("second", counted).build()
+                )
+                .execute((source, context) -> sum.set(context.<Integer>getArgument("first") + context.<Integer>getArgument("second"))))
+            .build());
+
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "sum", "2 40"));
+        Assertions.assertEquals(42, sum.get());
+        Assertions.assertEquals(2, scans.get());
+    }
+
+    private static final class CountedInts extends BaseParameterType<TestSource, Integer> implements IntParameterType<TestSource> {
+
+        private final ParameterType<TestSource, Integer> ints = ParameterTypes.numeric(Integer.class);
+        private final AtomicInteger scans;
+
+        private CountedInts(AtomicInteger scans) {
+            super(TypeWrap.of(Integer.class));
+            this.scans = scans;
+        }
+
+        @Override
+        public int resolveInt(String input) {
+            scans.incrementAndGet();
+            return Integer.parseInt(input);
+        }
+
+        @Override
+        public Integer resolve(ExecutionContext<TestSource> context, @NotNull CommandInputStream<TestSource> stream) {
+            return resolveInt(Objects.requireNonNull(stream.currentRaw()));
+        }
+
+        @Override
+        public boolean matchesInput(String input, CommandParameter<TestSource> parameter) {
+            return ints.matchesInput(input, parameter);
+        }
+    }
+}
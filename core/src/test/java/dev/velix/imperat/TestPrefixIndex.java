@@ -0,0 +1,34 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.suggestions.PrefixIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+public class TestPrefixIndex {
+
+    @Test
+    public void testPrefixIndexedSuggestions() {
+        PrefixIndex index = PrefixIndex.of("Stone", "stick", "Sand", "apple", "STONE_BRICKS");
+        Assertions.assertIterableEquals(List.of("Stone", "stick", "Sand", "apple", "STONE_BRICKS"), index);
+        Assertions.assertIterableEquals(List.of("stick", "Stone", "STONE_BRICKS"), index.startingWith("st"));
+        Assertions.assertIterableEquals(List.of("Stone", "STONE_BRICKS"), index.startingWith("STONE"));
+        Assertions.assertTrue(index.startingWith("x").isEmpty());
+
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("give")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("item").suggest("Stone", "stick", "Sand", "apple", "STONE_BRICKS"))
+                .execute((source, context) -> {}))
+            .build());
+        imperat.setSuggestionLimit(2);
+        var cmd = Objects.requireNonNull(imperat.getCommand("give"));
+        Assertions.assertIterableEquals(List.of("stick", "Stone"),
+            imperat.autoComplete(cmd, new TestSource(System.out), new String[]{"st"}).join());
+    }
+}
@@ -0,0 +1,35 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestRegistrySnapshots {
+
+    @Test
+    public void testRegistrySnapshots() {
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(Command.<TestSource>create("home")
+            .aliases("h")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").build())
+                .execute((source, context) -> {}))
+            .build());
+        var registered = imperat.getRegisteredCommands();
+        Assertions.assertNotNull(imperat.getCommand("h"));
+
+        var removed = imperat.unregisterCommand("h");
+        Assertions.assertNotNull(removed);
+        Assertions.assertEquals("home", removed.name());
+        Assertions.assertNull(imperat.getCommand("home"));
+        Assertions.assertNull(imperat.unregisterCommand("home"));
+        //snapshots taken before stay untouched
+        Assertions.assertEquals(1, registered.size());
+        Assertions.assertEquals(CommandDispatch.Result.UNKNOWN, imperat.dispatch(SOURCE, "home", "base"));
+    }
+}
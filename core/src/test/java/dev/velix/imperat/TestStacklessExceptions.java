@@ -0,0 +1,45 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.command.tree.CommandDispatch;
+import dev.velix.imperat.exception.ImperatException;
+import dev.velix.imperat.exception.SourceException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.velix.imperat.TestRun.SOURCE;
+
+public class TestStacklessExceptions {
+
+    @Test
+    public void testStacklessErrorPath() {
+        Assertions.assertEquals(0, new SourceException("Invalid input '%s'", "x").getStackTrace().length);
+        ImperatException.setStackTraces(true);
+        try {
+            Assertions.assertTrue(new SourceException("Invalid input").getStackTrace().length > 0);
+        } finally {
+            ImperatException.setStackTraces(false);
+        }
+
+        TestImperat imperat = new TestImperat();
+        AtomicInteger executions = new AtomicInteger();
+        imperat.registerCommand(Command.<TestSource>create("pay")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("target").build())
+                .execute((source, context) -> executions.incrementAndGet()))
+            .build());
+        Assertions.assertEquals(CommandDispatch.Result.COMPLETE, imperat.dispatch(SOURCE, "pay", "mqzen"));
+        Assertions.assertEquals(1, executions.get());
+
+        //a failing pre-processor reports its error and stops the dispatch
+        imperat.registerGlobalPreProcessor((api, context, usage) -> {
+            throw new SourceException("Not now");
+        });
+        Assertions.assertEquals(CommandDispatch.Result.UNKNOWN, imperat.dispatch(SOURCE, "pay", "mqzen"));
+        Assertions.assertEquals(1, executions.get());
+    }
+}
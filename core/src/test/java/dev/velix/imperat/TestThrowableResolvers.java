@@ -0,0 +1,24 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.exception.NumberOutOfRangeException;
+import dev.velix.imperat.exception.SourceException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestThrowableResolvers {
+
+    @Test
+    public void testThrowableResolverLookup() {
+        TestImperat imperat = new TestImperat();
+        var sourceResolver = imperat.getThrowableResolver(SourceException.class);
+        Assertions.assertNotNull(sourceResolver);
+        //inherited from the SourceException resolver
+        Assertions.assertSame(sourceResolver, imperat.getThrowableResolver(NumberOutOfRangeException.class));
+        Assertions.assertNull(imperat.getThrowableResolver(IllegalStateException.class));
+
+        imperat.setThrowableResolver(RuntimeException.class, (exception, api, context) -> {});
+        Assertions.assertNotNull(imperat.getThrowableResolver(IllegalStateException.class));
+        imperat.setThrowableResolver(NumberOutOfRangeException.class, (exception, api, context) -> {});
+        Assertions.assertNotSame(sourceResolver, imperat.getThrowableResolver(NumberOutOfRangeException.class));
+    }
+}
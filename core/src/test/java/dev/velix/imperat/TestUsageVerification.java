@@ -0,0 +1,57 @@
+package dev.velix.imperat;
+
+import dev.velix.imperat.command.Command;
+import dev.velix.imperat.command.CommandUsage;
+import dev.velix.imperat.command.parameters.CommandParameter;
+import dev.velix.imperat.exception.AmbiguousUsageAdditionException;
+import dev.velix.imperat.verification.UsageVerification;
+import dev.velix.imperat.verification.UsageVerifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestUsageVerification {
+
+    @Test
+    public void testBucketedUsageVerification() {
+        var builder = Command.<TestSource>create("warp")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredInt("id").build())
+                .execute((source, context) -> {}))
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").build())
+                .execute((source, context) -> {}));
+        for (int i = 0; i < 50; i++) {
+            builder.subCommand("sub" + i, CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("target").build())
+                .execute((source, context) -> {}));
+        }
+        Command<TestSource> warp = builder.build();
+
+        var verification = UsageVerification.verify(UsageVerifier.typeTolerantVerifier(), warp);
+        Assertions.assertEquals(warp.usages().size(), verification.usages());
+        Assertions.assertEquals(verification.usages(), verification.buckets());
+        Assertions.assertEquals(0L, verification.comparisons());
+
+        //the simple verifier buckets by the number of required parameters only
+        Command<TestSource> ambiguous = Command.<TestSource>create("ambiguous")
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredInt("id").build())
+                .execute((source, context) -> {}))
+            .usage(CommandUsage.<TestSource>builder()
+                .parameters(CommandParameter.<TestSource>requiredText("name").build())
+                .execute((source, context) -> {}))
+            .build();
+        Assertions.assertDoesNotThrow(() -> UsageVerification.verify(UsageVerifier.typeTolerantVerifier(), ambiguous));
+        Assertions.assertThrows(AmbiguousUsageAdditionException.class,
+            () -> UsageVerification.verify(UsageVerifier.defaultVerifier(), ambiguous));
+
+        TestImperat imperat = new TestImperat();
+        imperat.registerCommand(warp);
+        var reports = imperat.getRegistrationReports();
+        Assertions.assertEquals(1, reports.size());
+        Assertions.assertEquals("warp", reports.get(0).command());
+        Assertions.assertTrue(reports.get(0).totalNanos() >= reports.get(0).verification().nanos());
+        imperat.unregisterCommand("warp");
+        Assertions.assertTrue(imperat.getRegistrationReports().isEmpty());
+    }
+}
@@ -0,0 +1,5 @@
+package dev.velix.imperat.commands.annotations.examples;
+
+public enum Color {
+    RED, GREEN, BLUE
+}
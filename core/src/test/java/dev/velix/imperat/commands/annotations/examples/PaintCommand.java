@@ -0,0 +1,15 @@
+package dev.velix.imperat.commands.annotations.examples;
+
+import dev.velix.imperat.TestSource;
+import dev.velix.imperat.annotations.Command;
+import dev.velix.imperat.annotations.Named;
+import dev.velix.imperat.annotations.Usage;
+
+@Command("paint")
+public class PaintCommand {
+
+    @Usage
+    public void paint(TestSource source, @Named("color") Color color) {
+        source.reply("Painting in " + color.name().toLowerCase());
+    }
+}
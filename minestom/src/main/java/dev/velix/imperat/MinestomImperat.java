@@ -6,12 +6,19 @@ import dev.velix.imperat.resolvers.PermissionResolver;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerProcess;
 import net.minestom.server.command.CommandSender;
+import net.minestom.server.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class MinestomImperat extends BaseImperat<MinestomSource> {
 
+    private final Map<Command<MinestomSource>, InternalMinestomCommand> platformCommands = new ConcurrentHashMap<>();
+
     private MinestomImperat(@NotNull PermissionResolver<MinestomSource> permissionResolver) {
         super(permissionResolver);
+        MinecraftServer.getSchedulerManager().buildShutdownTask(this::shutdown);
     }
 
     public static MinestomImperat create(@NotNull PermissionResolver<MinestomSource> permissionResolver) {
@@ -65,13 +72,37 @@ public final class MinestomImperat extends BaseImperat<MinestomSource> {
     }
 
     /**
-     * Registering a command into the dispatcher
+     * Registering a command into the platform
      *
      * @param command the command to register
      */
     @Override
-    public void registerCommand(Command<MinestomSource> command) {
-        super.registerCommand(command);
-        MinecraftServer.getCommandManager().register();
+    protected void registerOnPlatform(Command<MinestomSource> command) {
+        InternalMinestomCommand internalCmd = new InternalMinestomCommand(this, command);
+        platformCommands.put(command, internalCmd);
+        MinecraftServer.getCommandManager().register(internalCmd);
+    }
+
+    /**
+     * Unregistering a command from the platform
+     *
+     * @param command the command to unregister
+     */
+    @Override
+    protected void unregisterOnPlatform(Command<MinestomSource> command) {
+        InternalMinestomCommand internalCmd = platformCommands.remove(command);
+        if (internalCmd != null) {
+            MinecraftServer.getCommandManager().unregister(internalCmd);
+        }
+    }
+
+    /**
+     * Resends the commands to the online players, once per registration or batch of them
+     */
+    @Override
+    protected void syncPlatform() {
+        for (Player player : MinecraftServer.getConnectionManager().getOnlinePlayers()) {
+            player.refreshCommands();
+        }
     }
 }
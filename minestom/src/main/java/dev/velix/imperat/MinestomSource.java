@@ -8,6 +8,8 @@ import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.ConsoleSender;
 import net.minestom.server.entity.Player;
 
+import java.util.UUID;
+
 public final class MinestomSource implements Source {
     private final CommandSender sender;
 
@@ -23,6 +25,14 @@ public final class MinestomSource implements Source {
         return sender instanceof Player player ? player.getUsername() : "CONSOLE";
     }
 
+    /**
+     * @return the unique id of the player, or the name-based id of other senders
+     */
+    @Override
+    public UUID uuid() {
+        return sender instanceof Player player ? player.getUuid() : Source.super.uuid();
+    }
+
     /**
      * @return The original command sender valueType instance
      */
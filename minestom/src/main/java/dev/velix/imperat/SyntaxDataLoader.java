@@ -18,12 +18,18 @@ import net.minestom.server.particle.Particle;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("unchecked")
 final class SyntaxDataLoader {
 
+    //the longest the server thread waits for suggestions when the dispatcher doesn't bound them
+    private static final Duration DEFAULT_SUGGESTION_TIMEOUT = Duration.ofMillis(500);
+
     static CommandExecutor loadExecutor(MinestomImperat imperat) {
         return (sender, context) -> {
             imperat.dispatch(imperat.wrapSender(sender), context.getCommandName(), context.getInput());
@@ -55,9 +61,18 @@ final class SyntaxDataLoader {
                     });
 
             }
+            //minestom reads the suggestions once the callback returns, so it has to wait for them,
+            //at most for the suggestion timeout of the dispatcher, or a default one when there's none
             arg.setSuggestionCallback((sender, context, suggestion) -> {
                 var source = imperat.wrapSender(sender);
-                for (var completion : imperat.autoComplete(imperatCommand, source, context.getInput()).join()) {
+                Duration timeout = imperat.getSuggestionTimeout();
+                if (timeout == null) {
+                    timeout = DEFAULT_SUGGESTION_TIMEOUT;
+                }
+                var completions = imperat.autoComplete(imperatCommand, source, context.getInput())
+                    .completeOnTimeout(Collections.emptyList(), timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+                for (var completion : completions) {
                     suggestion.addEntry(new SuggestionEntry(completion));
                 }
             });
@@ -9,6 +9,7 @@ import dev.velix.imperat.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 final class InternalVelocityCommand implements SimpleCommand {
 
@@ -47,12 +48,14 @@ final class InternalVelocityCommand implements SimpleCommand {
     }
 
     @Override
-    public List<String> suggest(Invocation invocation) {
-        var collection = imperat.autoComplete(command, imperat.wrapSender(invocation.source()), invocation.arguments()).join();
-        if (collection instanceof List<String> list) {
-            return list;
-        }
-        return new ArrayList<>(collection);
+    public CompletableFuture<List<String>> suggestAsync(Invocation invocation) {
+        return imperat.autoComplete(command, imperat.wrapSender(invocation.source()), invocation.arguments())
+            .thenApply((collection) -> {
+                if (collection instanceof List<String> list) {
+                    return list;
+                }
+                return new ArrayList<>(collection);
+            });
     }
 
     @Override
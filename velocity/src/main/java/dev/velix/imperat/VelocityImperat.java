@@ -1,7 +1,9 @@
 package dev.velix.imperat;
 
 import com.velocitypowered.api.command.CommandManager;
+import com.velocitypowered.api.command.CommandMeta;
 import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.PluginContainer;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
@@ -14,10 +16,14 @@ import dev.velix.imperat.types.ParameterPlayer;
 import dev.velix.imperat.util.Preconditions;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class VelocityImperat extends BaseImperat<VelocitySource> {
 
     final PluginContainer plugin;
     private final ProxyServer proxyServer;
+    private final Map<Command<VelocitySource>, CommandMeta> platformCommands = new ConcurrentHashMap<>();
 
     private VelocityImperat(
         @NotNull String pluginName,
@@ -28,7 +34,10 @@ public final class VelocityImperat extends BaseImperat<VelocitySource> {
         Preconditions.notEmpty(pluginName, "plugin id/name is not valid");
         this.plugin = proxyServer.getPluginManager().getPlugin(pluginName).orElseThrow(() -> new IllegalStateException("Unknown plugin with name '" + pluginName + "'"));
         this.proxyServer = proxyServer;
+        this.setSuggestionExecutor(plugin.getExecutorService());
         this.registerDefaultResolvers();
+        this.plugin.getInstance().ifPresent((instance) ->
+            proxyServer.getEventManager().register(instance, ProxyShutdownEvent.class, (event) -> shutdown()));
     }
 
     public static VelocityImperat create(
@@ -71,17 +80,26 @@ public final class VelocityImperat extends BaseImperat<VelocitySource> {
     }
 
     @Override
-    public void registerCommand(Command<VelocitySource> command) {
-        super.registerCommand(command);
+    protected void registerOnPlatform(Command<VelocitySource> command) {
         CommandManager manager = proxyServer.getCommandManager();
         try {
             InternalVelocityCommand internalCmd = new InternalVelocityCommand(this, command, manager);
             manager.register(internalCmd.getMeta(), internalCmd);
+            platformCommands.put(command, internalCmd.getMeta());
         } catch (final Exception ex) {
             ex.printStackTrace();
         }
     }
 
+    @Override
+    protected void unregisterOnPlatform(Command<VelocitySource> command) {
+        //the aliases are unregistered along with the name, under the same meta
+        CommandMeta meta = platformCommands.remove(command);
+        if (meta != null) {
+            proxyServer.getCommandManager().unregister(meta);
+        }
+    }
+
     @Override
     public ProxyServer getPlatform() {
         return proxyServer;
@@ -89,6 +107,7 @@ public final class VelocityImperat extends BaseImperat<VelocitySource> {
 
     @Override
     public void shutdownPlatform() {
+        shutdown();
         plugin.getExecutorService().shutdown();
     }
 
@@ -6,6 +6,8 @@ import com.velocitypowered.api.proxy.Player;
 import dev.velix.imperat.context.Source;
 import net.kyori.adventure.text.ComponentLike;
 
+import java.util.UUID;
+
 public final class VelocitySource implements Source {
 
     private final CommandSource origin;
@@ -19,6 +21,11 @@ public final class VelocitySource implements Source {
         return origin instanceof Player pl ? pl.getUsername() : "CONSOLE";
     }
 
+    @Override
+    public UUID uuid() {
+        return origin instanceof Player pl ? pl.getUniqueId() : Source.super.uuid();
+    }
+
     @Override
     public CommandSource origin() {
         return origin;